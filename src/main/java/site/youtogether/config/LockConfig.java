@@ -0,0 +1,37 @@
+package site.youtogether.config;
+
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.config.property.LockProperties;
+import site.youtogether.config.property.LockProperties.Provider;
+import site.youtogether.util.lock.LockProvider;
+import site.youtogether.util.lock.RedissonLockProvider;
+import site.youtogether.util.lock.RoomMailbox;
+import site.youtogether.util.lock.StripedLockProvider;
+
+@Configuration
+@RequiredArgsConstructor
+public class LockConfig {
+
+	private final LockProperties lockProperties;
+
+	@Bean
+	public LockProvider lockProvider(ObjectProvider<RedissonClient> redissonClient) {
+		if (lockProperties.getProvider() == Provider.LOCAL) {
+			return new StripedLockProvider(lockProperties.getStripes());
+		}
+		return new RedissonLockProvider(redissonClient.getObject());
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "lock.mailbox", name = "enabled", havingValue = "true")
+	public RoomMailbox roomMailbox() {
+		return new RoomMailbox(lockProperties);
+	}
+
+}
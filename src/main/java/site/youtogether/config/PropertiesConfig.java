@@ -3,13 +3,25 @@ package site.youtogether.config;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import site.youtogether.config.property.ChatProperties;
 import site.youtogether.config.property.CookieProperties;
 import site.youtogether.config.property.JwtProperties;
+import site.youtogether.config.property.LockProperties;
+import site.youtogether.config.property.RateLimitProperties;
+import site.youtogether.config.property.RoomProperties;
+import site.youtogether.config.property.UserProperties;
+import site.youtogether.config.property.VideoProperties;
 
 @Configuration
 @EnableConfigurationProperties(value = {
 	CookieProperties.class,
-	JwtProperties.class
+	JwtProperties.class,
+	ChatProperties.class,
+	RateLimitProperties.class,
+	VideoProperties.class,
+	RoomProperties.class,
+	UserProperties.class,
+	LockProperties.class
 })
 public class PropertiesConfig {
 
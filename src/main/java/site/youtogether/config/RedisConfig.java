@@ -1,7 +1,10 @@
 package site.youtogether.config;
 
+import static site.youtogether.util.AppConstants.*;
+
 import java.util.List;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,14 +13,21 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scripting.support.ResourceScriptSource;
 
 import com.redis.om.spring.annotations.EnableRedisDocumentRepositories;
 
 import lombok.RequiredArgsConstructor;
+import site.youtogether.config.property.ChatProperties;
 import site.youtogether.message.ChatHistory;
+import site.youtogether.message.infrastructure.ChatHistorySerializer;
+import site.youtogether.message.infrastructure.ChatSearchIndex;
+import site.youtogether.user.infrastructure.UniqueNicknameStorage;
+import site.youtogether.user.infrastructure.UserNearCache;
 
 @Configuration
 @EnableRedisDocumentRepositories(basePackages = "site.youtogether.*")
@@ -25,6 +35,7 @@ import site.youtogether.message.ChatHistory;
 public class RedisConfig {
 
 	private final RedisProperties redisProperties;
+	private final ChatProperties chatProperties;
 
 	@Bean
 	public JedisConnectionFactory redisConnectionFactory() {
@@ -51,12 +62,101 @@ public class RedisConfig {
 		return redisScript;
 	}
 
+	@Bean
+	public DefaultRedisScript<Long> nextChatIdScript() {
+		DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/next-chat-id.lua")));
+		redisScript.setResultType(Long.class);
+		return redisScript;
+	}
+
+	@Bean
+	public DefaultRedisScript<String> reserveNicknameScript() {
+		DefaultRedisScript<String> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/reserve-nickname.lua")));
+		redisScript.setResultType(String.class);
+		return redisScript;
+	}
+
+	@Bean
+	public DefaultRedisScript<String> enterRoomScript() {
+		DefaultRedisScript<String> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/enter-room.lua")));
+		redisScript.setResultType(String.class);
+		return redisScript;
+	}
+
+	@Bean
+	public DefaultRedisScript<String> leaveRoomScript() {
+		DefaultRedisScript<String> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/leave-room.lua")));
+		redisScript.setResultType(String.class);
+		return redisScript;
+	}
+
+	@Bean
+	public DefaultRedisScript<Long> syncParticipantCountScript() {
+		DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/sync-participant-count.lua")));
+		redisScript.setResultType(Long.class);
+		return redisScript;
+	}
+
+	@Bean
+	public DefaultRedisScript<Boolean> updateRoomMemberScript() {
+		DefaultRedisScript<Boolean> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/update-room-member.lua")));
+		redisScript.setResultType(Boolean.class);
+		return redisScript;
+	}
+
+	@Bean
+	public DefaultRedisScript<Long> backfillRoomMemberScript() {
+		DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/backfill-room-member.lua")));
+		redisScript.setResultType(Long.class);
+		return redisScript;
+	}
+
+	@Bean
+	public DefaultRedisScript<Boolean> changeRoomTitleScript() {
+		DefaultRedisScript<Boolean> redisScript = new DefaultRedisScript<>();
+		redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("script/change-room-title.lua")));
+		redisScript.setResultType(Boolean.class);
+		return redisScript;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "user.near-cache", name = "enabled", havingValue = "true")
+	public RedisMessageListenerContainer userInvalidationListenerContainer(UserNearCache userNearCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener(userNearCache, new ChannelTopic(USER_INVALIDATION_CHANNEL));
+		return container;
+	}
+
+	@Bean
+	public RedisMessageListenerContainer nicknameListenerContainer(UniqueNicknameStorage uniqueNicknameStorage) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener(uniqueNicknameStorage, new ChannelTopic(NICKNAME_ADDED_CHANNEL));
+		return container;
+	}
+
+	@Bean
+	public RedisMessageListenerContainer chatSearchListenerContainer(ChatSearchIndex chatSearchIndex) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener(chatSearchIndex, new PatternTopic(CHAT_APPENDED_CHANNEL_PREFIX + "*"));
+		return container;
+	}
+
 	@Bean
 	public RedisTemplate<String, ChatHistory> redisTemplate() {
 		RedisTemplate<String, ChatHistory> redisTemplate = new RedisTemplate<>();
 		redisTemplate.setConnectionFactory(redisConnectionFactory());
 		redisTemplate.setKeySerializer(new StringRedisSerializer());
-		redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(ChatHistory.class));
+		redisTemplate.setValueSerializer(new ChatHistorySerializer(chatProperties.getCodec()));
 		return redisTemplate;
 	}
 
@@ -13,12 +13,14 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import lombok.RequiredArgsConstructor;
 import site.youtogether.util.interceptor.SessionCreateInterceptor;
 import site.youtogether.util.interceptor.SingleRoomCheckInterceptor;
+import site.youtogether.util.interceptor.UserContextInterceptor;
 import site.youtogether.util.resolver.UserTrackingArgumentResolver;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+	private final UserContextInterceptor userContextInterceptor;
 	private final SingleRoomCheckInterceptor singleRoomCheckInterceptor;
 	private final SessionCreateInterceptor sessionCreateInterceptor;
 	private final UserTrackingArgumentResolver userTrackingArgumentResolver;
@@ -39,6 +41,9 @@ public class WebConfig implements WebMvcConfigurer {
 
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(userContextInterceptor)
+			.addPathPatterns("/**")
+			.order(Ordered.HIGHEST_PRECEDENCE);
 		registry.addInterceptor(sessionCreateInterceptor)
 			.addPathPatterns("/**")
 			.excludePathPatterns("/docs/index.html")
@@ -3,13 +3,16 @@ package site.youtogether.config;
 import static site.youtogether.util.AppConstants.*;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 import lombok.RequiredArgsConstructor;
+import site.youtogether.util.interceptor.MessageRateLimitInterceptor;
 import site.youtogether.util.interceptor.StompHandshakeInterceptor;
+import site.youtogether.util.interceptor.UserContextInterceptor;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -17,6 +20,8 @@ import site.youtogether.util.interceptor.StompHandshakeInterceptor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final StompHandshakeInterceptor stompHandshakeInterceptor;
+	private final MessageRateLimitInterceptor messageRateLimitInterceptor;
+	private final UserContextInterceptor userContextInterceptor;
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -36,4 +41,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 			.withSockJS();
 	}
 
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.interceptors(messageRateLimitInterceptor, userContextInterceptor);
+	}
+
 }
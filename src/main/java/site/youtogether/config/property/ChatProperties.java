@@ -0,0 +1,40 @@
+package site.youtogether.config.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import site.youtogether.message.infrastructure.ChatHistoryCodec;
+
+@ConfigurationProperties("chat")
+@Getter
+public class ChatProperties {
+
+	private final ChatHistoryCodec codec;
+	private final Archive archive;
+
+	public ChatProperties(@DefaultValue("binary") ChatHistoryCodec codec, @DefaultValue Archive archive) {
+		this.codec = codec;
+		this.archive = archive;
+	}
+
+	@Getter
+	public static class Archive {
+
+		private final boolean enabled;
+		private final String directory;
+		private final int indexInterval;
+		private final DataSize segmentSize;
+
+		public Archive(@DefaultValue("false") boolean enabled, @DefaultValue("chat-archive") String directory,
+			@DefaultValue("64") int indexInterval, @DefaultValue("1GB") DataSize segmentSize) {
+			this.enabled = enabled;
+			this.directory = directory;
+			this.indexInterval = indexInterval;
+			this.segmentSize = segmentSize;
+		}
+
+	}
+
+}
@@ -1,16 +1,29 @@
 package site.youtogether.config.property;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @ConfigurationProperties("jwt")
-@RequiredArgsConstructor
 @Getter
 public class JwtProperties {
 
 	private final String issuer;
 	private final String secretKey;
+	private final Duration tokenCacheTtl;
+	private final Duration invalidTokenCacheTtl;
+	private final int tokenCacheSize;
+
+	public JwtProperties(String issuer, String secretKey, @DefaultValue("5m") Duration tokenCacheTtl,
+		@DefaultValue("30s") Duration invalidTokenCacheTtl, @DefaultValue("10000") int tokenCacheSize) {
+		this.issuer = issuer;
+		this.secretKey = secretKey;
+		this.tokenCacheTtl = tokenCacheTtl;
+		this.invalidTokenCacheTtl = invalidTokenCacheTtl;
+		this.tokenCacheSize = tokenCacheSize;
+	}
 
 }
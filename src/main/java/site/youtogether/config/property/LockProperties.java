@@ -0,0 +1,50 @@
+package site.youtogether.config.property;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import lombok.Getter;
+
+@ConfigurationProperties("lock")
+@Getter
+public class LockProperties {
+
+	private final Provider provider;
+	private final int stripes;
+	private final Mailbox mailbox;
+
+	public LockProperties(@DefaultValue("redisson") Provider provider, @DefaultValue("1024") int stripes, @DefaultValue Mailbox mailbox) {
+		this.provider = provider;
+		this.stripes = stripes;
+		this.mailbox = mailbox;
+	}
+
+	public enum Provider {
+
+		REDISSON,       // 여러 서버가 Redis 로 락을 공유
+		LOCAL           // 서버가 하나일 때 JVM 안에서만 락을 사용
+
+	}
+
+	/**
+	 * runs playlist and playback mutations of a room one at a time on the room's mailbox instead of taking locks
+	 * only valid when every request of a room is handled by the node that plays its video
+	 */
+	@Getter
+	public static class Mailbox {
+
+		private final boolean enabled;
+		private final int threads;
+		private final Duration waitTime;
+
+		public Mailbox(@DefaultValue("false") boolean enabled, @DefaultValue("8") int threads, @DefaultValue("10s") Duration waitTime) {
+			this.enabled = enabled;
+			this.threads = threads;
+			this.waitTime = waitTime;
+		}
+
+	}
+
+}
@@ -0,0 +1,60 @@
+package site.youtogether.config.property;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import lombok.Getter;
+import site.youtogether.message.MessageType;
+
+@ConfigurationProperties("rate-limit")
+@Getter
+public class RateLimitProperties {
+
+	private final boolean enabled;
+	private final Map<MessageType, Limit> user;
+	private final Map<MessageType, Limit> room;
+
+	public RateLimitProperties(@DefaultValue("true") boolean enabled, Map<MessageType, Limit> user, Map<MessageType, Limit> room) {
+		this.enabled = enabled;
+		this.user = merge(defaultUserLimits(), user);
+		this.room = merge(defaultRoomLimits(), room);
+	}
+
+	private static Map<MessageType, Limit> merge(Map<MessageType, Limit> defaults, Map<MessageType, Limit> overrides) {
+		if (overrides != null) {
+			defaults.putAll(overrides);
+		}
+		return defaults;
+	}
+
+	private static Map<MessageType, Limit> defaultUserLimits() {
+		Map<MessageType, Limit> limits = new EnumMap<>(MessageType.class);
+		limits.put(MessageType.CHAT, new Limit(5, 2));
+		limits.put(MessageType.VIDEO_SYNC_INFO, new Limit(10, 4));
+		return limits;
+	}
+
+	private static Map<MessageType, Limit> defaultRoomLimits() {
+		Map<MessageType, Limit> limits = new EnumMap<>(MessageType.class);
+		limits.put(MessageType.CHAT, new Limit(30, 15));
+		limits.put(MessageType.VIDEO_SYNC_INFO, new Limit(20, 8));
+		return limits;
+	}
+
+	@Getter
+	public static class Limit {
+
+		private final int capacity;
+		private final double refillPerSecond;
+
+		public Limit(int capacity, double refillPerSecond) {
+			this.capacity = capacity;
+			this.refillPerSecond = refillPerSecond;
+		}
+
+	}
+
+}
@@ -0,0 +1,25 @@
+package site.youtogether.config.property;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import lombok.Getter;
+
+@ConfigurationProperties("room")
+@Getter
+public class RoomProperties {
+
+	private final Duration listCacheTtl;
+	private final Duration participantBroadcastWindow;
+	private final int largeRoomThreshold;
+
+	public RoomProperties(@DefaultValue("1s") Duration listCacheTtl, @DefaultValue("500ms") Duration participantBroadcastWindow,
+		@DefaultValue("100") int largeRoomThreshold) {
+		this.listCacheTtl = listCacheTtl;
+		this.participantBroadcastWindow = participantBroadcastWindow;
+		this.largeRoomThreshold = largeRoomThreshold;
+	}
+
+}
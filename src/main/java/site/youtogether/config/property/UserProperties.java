@@ -0,0 +1,35 @@
+package site.youtogether.config.property;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import lombok.Getter;
+
+@ConfigurationProperties("user")
+@Getter
+public class UserProperties {
+
+	private final NearCache nearCache;
+
+	public UserProperties(@DefaultValue NearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	@Getter
+	public static class NearCache {
+
+		private final boolean enabled;
+		private final Duration ttl;
+		private final int size;
+
+		public NearCache(@DefaultValue("false") boolean enabled, @DefaultValue("30s") Duration ttl, @DefaultValue("10000") int size) {
+			this.enabled = enabled;
+			this.ttl = ttl;
+			this.size = size;
+		}
+
+	}
+
+}
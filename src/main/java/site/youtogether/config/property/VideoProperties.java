@@ -0,0 +1,22 @@
+package site.youtogether.config.property;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import lombok.Getter;
+
+@ConfigurationProperties("video")
+@Getter
+public class VideoProperties {
+
+	private final Duration controlDebounceWindow;
+	private final int controlThreads;
+
+	public VideoProperties(@DefaultValue("200ms") Duration controlDebounceWindow, @DefaultValue("4") int controlThreads) {
+		this.controlDebounceWindow = controlDebounceWindow;
+		this.controlThreads = controlThreads;
+	}
+
+}
@@ -22,6 +22,7 @@ public enum ErrorType {
 	USERS_IN_DIFFERENT_ROOM(HttpStatus.BAD_REQUEST, "해당 방에 두 유저가 존재하지 않습니다"),
 	VIDEO_EDIT_DENIED(HttpStatus.FORBIDDEN, "영상 관련 작업을 할 권한이 없습니다"),
 	USER_NICKNAME_DUPLICATE(HttpStatus.BAD_REQUEST, "이미 사용중인 닉네임입니다"),
+	USER_NICKNAME_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "사용 가능한 닉네임이 없습니다"),
 
 	// Room
 	ROOM_NO_EXISTENCE(HttpStatus.NOT_FOUND, "방이 없습니다"),
@@ -29,6 +30,7 @@ public enum ErrorType {
 	ROOM_PASSWORD_NOT_MATCH(HttpStatus.FORBIDDEN, "패스워드가 일치하지 않습니다"),
 	ROOM_CAPACITY_EXCEEDED(HttpStatus.FORBIDDEN, "방의 참가 인원이 가득 찼습니다"),
 	USER_ABSENT(HttpStatus.BAD_REQUEST, "방 안에 사용자가 존재하지 않습니다"),
+	INVALID_ROOM_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 방 목록 커서입니다"),
 
 	// Cookie
 	COOKIE_NO_EXISTENCE(HttpStatus.UNAUTHORIZED, "쿠키가 없습니다"),
@@ -0,0 +1,12 @@
+package site.youtogether.exception.room;
+
+import site.youtogether.exception.CustomException;
+import site.youtogether.exception.ErrorType;
+
+public class InvalidRoomCursorException extends CustomException {
+
+	public InvalidRoomCursorException() {
+		super(ErrorType.INVALID_ROOM_CURSOR);
+	}
+
+}
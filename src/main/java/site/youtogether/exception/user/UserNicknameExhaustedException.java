@@ -0,0 +1,12 @@
+package site.youtogether.exception.user;
+
+import site.youtogether.exception.CustomException;
+import site.youtogether.exception.ErrorType;
+
+public class UserNicknameExhaustedException extends CustomException {
+
+	public UserNicknameExhaustedException() {
+		super(ErrorType.USER_NICKNAME_EXHAUSTED);
+	}
+
+}
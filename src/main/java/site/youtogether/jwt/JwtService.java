@@ -37,12 +37,26 @@ public class JwtService {
 	}
 
 	public Long parse(String token) {
+		Claims claims = parseClaims(token);
+		return claims == null ? null : claims.get(USER_ID, Long.class);
+	}
+
+	// 검증 결과를 캐시하는 곳에서 토큰의 만료 시각을 넘겨 캐시하지 않도록 exp 도 함께 반환
+	public VerifiedToken parseSession(String token) {
+		Claims claims = parseClaims(token);
+		if (claims == null || claims.get(USER_ID, Long.class) == null) {
+			return null;
+		}
+		long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+		return new VerifiedToken(claims.get(USER_ID, Long.class), expiresAt);
+	}
+
+	private Claims parseClaims(String token) {
 		try {
-			Claims claims = Jwts.parser()
+			return Jwts.parser()
 				.setSigningKey(jwtProperties.getSecretKey())
 				.parseClaimsJws(token)
 				.getBody();
-			return claims.get(USER_ID, Long.class);
 		} catch (Exception e) {
 			log.error("JwtService parse error! ", e);
 			return null;
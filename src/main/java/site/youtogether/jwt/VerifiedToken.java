@@ -0,0 +1,13 @@
+package site.youtogether.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class VerifiedToken {
+
+	private final Long userId;
+	private final long expiresAt;          // epoch millis, 토큰의 exp
+
+}
@@ -0,0 +1,100 @@
+package site.youtogether.jwt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.youtogether.config.property.JwtProperties;
+
+/**
+ * bounded cache of session tokens that were already verified, token -> userId
+ * invalid tokens are cached as well, for a shorter time
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final long ttlMillis;
+	private final long invalidTtlMillis;
+	private final int maxSize;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	public VerifiedTokenCache(JwtProperties jwtProperties) {
+		this.ttlMillis = jwtProperties.getTokenCacheTtl().toMillis();
+		this.invalidTtlMillis = jwtProperties.getInvalidTokenCacheTtl().toMillis();
+		this.maxSize = jwtProperties.getTokenCacheSize();
+	}
+
+	/**
+	 * returns the cached userId of token, or verifies it with verifier, which returns null for an invalid token
+	 * valid tokens are cached until the TTL or their exp, whichever comes first
+	 */
+	public Long verify(String token, Function<String, VerifiedToken> verifier) {
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(token);
+		if (entry != null && entry.isAlive(now)) {
+			return entry.userId;
+		}
+
+		VerifiedToken verifiedToken = verifier.apply(token);
+		if (verifiedToken == null) {
+			put(token, null, now + invalidTtlMillis, invalidTtlMillis);
+			return null;
+		}
+		put(token, verifiedToken, now);
+		return verifiedToken.getUserId();
+	}
+
+	// 새로 발급한 토큰은 검증 없이 바로 등록
+	public void put(String token, VerifiedToken verifiedToken) {
+		put(token, verifiedToken, System.currentTimeMillis());
+	}
+
+	// 유저가 삭제되면 캐시된 토큰이 더 이상 유효하지 않으므로 전부 비운다
+	public void invalidateAll() {
+		entries.clear();
+	}
+
+	@Scheduled(fixedDelay = 60_000)
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		entries.values().removeIf(entry -> !entry.isAlive(now));
+	}
+
+	// 만료가 가까운 토큰이 exp 이후에도 캐시에서 통과하지 않도록 TTL 과 exp 중 빠른 쪽까지만 캐시
+	private void put(String token, VerifiedToken verifiedToken, long now) {
+		put(token, verifiedToken.getUserId(), Math.min(now + ttlMillis, verifiedToken.getExpiresAt()), ttlMillis);
+	}
+
+	private void put(String token, Long userId, long expiresAt, long ttl) {
+		if (ttlMillis <= 0 || ttl <= 0) {                                               // TTL이 0이면 캐시를 사용하지 않음
+			return;
+		}
+		if (entries.size() >= maxSize) {                                              // 가득 차면 만료된 것만 정리하고, 그래도 가득 차 있으면 저장하지 않음
+			evictExpired();
+			if (entries.size() >= maxSize) {
+				return;
+			}
+		}
+		entries.put(token, new Entry(userId, expiresAt));
+	}
+
+	private static class Entry {
+
+		private final Long userId;          // null 이면 유효하지 않은 토큰
+		private final long expiresAt;
+
+		private Entry(Long userId, long expiresAt) {
+			this.userId = userId;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isAlive(long now) {
+			return now < expiresAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,21 @@
+package site.youtogether.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.youtogether.room.dto.RoomListDetail;
+
+@AllArgsConstructor
+@Getter
+public class LobbyChange {
+
+	private final ChangeKind kind;
+	private final String roomCode;
+	private final RoomListDetail room;
+
+	public enum ChangeKind {
+
+		CREATED, UPDATED, CLOSED
+
+	}
+
+}
@@ -0,0 +1,16 @@
+package site.youtogether.message;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class LobbyMessage {
+
+	private final MessageType messageType = MessageType.LOBBY_CHANGES;
+
+	private final List<LobbyChange> changes;
+
+}
@@ -2,6 +2,6 @@ package site.youtogether.message;
 
 public enum MessageType {
 
-	CHAT, PARTICIPANTS, ROOM_TITLE, PLAYLIST, ALARM, CHAT_HISTORIES, START_VIDEO_INFO, VIDEO_SYNC_INFO
+	CHAT, PARTICIPANTS, ROOM_TITLE, PLAYLIST, ALARM, CHAT_HISTORIES, START_VIDEO_INFO, VIDEO_SYNC_INFO, LOBBY_CHANGES, PARTICIPANT_CHANGES, PARTICIPANT_SUMMARY, THROTTLED
 
 }
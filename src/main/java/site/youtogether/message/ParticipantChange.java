@@ -0,0 +1,21 @@
+package site.youtogether.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.youtogether.room.Participant;
+
+@AllArgsConstructor
+@Getter
+public class ParticipantChange {
+
+	private final ChangeKind kind;
+	private final Long userId;
+	private final Participant participant;        // LEFT 이면 null
+
+	public enum ChangeKind {
+
+		JOINED, LEFT, ROLE_CHANGED, NICKNAME_CHANGED
+
+	}
+
+}
@@ -0,0 +1,16 @@
+package site.youtogether.message;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class ParticipantChangesMessage {
+
+	private final MessageType messageType = MessageType.PARTICIPANT_CHANGES;
+
+	private final List<ParticipantChange> changes;
+
+}
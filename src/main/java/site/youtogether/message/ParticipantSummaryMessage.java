@@ -0,0 +1,18 @@
+package site.youtogether.message;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import site.youtogether.room.Participant;
+
+@RequiredArgsConstructor
+@Getter
+public class ParticipantSummaryMessage {
+
+	private final MessageType messageType = MessageType.PARTICIPANT_SUMMARY;
+
+	private final long participantCount;
+	private final List<Participant> participants;          // HOST, MANAGER, EDITOR
+
+}
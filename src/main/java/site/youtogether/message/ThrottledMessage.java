@@ -0,0 +1,14 @@
+package site.youtogether.message;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class ThrottledMessage {
+
+	private final MessageType messageType = MessageType.THROTTLED;
+
+	private final MessageType throttledType;          // 버려진 메시지의 타입
+
+}
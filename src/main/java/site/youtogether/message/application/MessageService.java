@@ -4,48 +4,137 @@ import static site.youtogether.util.AppConstants.*;
 
 import java.util.List;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import site.youtogether.config.property.RoomProperties;
 import site.youtogether.exception.playlist.PlaylistNoExistenceException;
 import site.youtogether.exception.room.RoomNoExistenceException;
 import site.youtogether.message.AlarmMessage;
 import site.youtogether.message.ChatHistoriesMessage;
 import site.youtogether.message.ChatHistory;
 import site.youtogether.message.ChatMessage;
+import site.youtogether.message.LobbyMessage;
+import site.youtogether.message.MessageType;
+import site.youtogether.message.ParticipantChangesMessage;
+import site.youtogether.message.ParticipantSummaryMessage;
 import site.youtogether.message.ParticipantsMessage;
 import site.youtogether.message.PlaylistMessage;
 import site.youtogether.message.RoomTitleMessage;
 import site.youtogether.message.StartVideoInfoMessage;
+import site.youtogether.message.ThrottledMessage;
 import site.youtogether.message.VideoSyncInfoMessage;
+import site.youtogether.message.dto.ChatHistoryList;
+import site.youtogether.message.infrastructure.ChatSearchIndex;
+import site.youtogether.message.infrastructure.ChatStorage;
 import site.youtogether.playlist.Playlist;
 import site.youtogether.playlist.dto.VideoInfo;
 import site.youtogether.playlist.infrastructure.PlaylistStorage;
 import site.youtogether.room.Participant;
 import site.youtogether.room.Room;
+import site.youtogether.room.infrastructure.RoomMemberStorage;
 import site.youtogether.room.infrastructure.RoomStorage;
+import site.youtogether.user.User;
+import site.youtogether.user.infrastructure.UserContext;
 import site.youtogether.user.infrastructure.UserStorage;
 
 @Service
-@RequiredArgsConstructor
 public class MessageService {
 
 	private final RoomStorage roomStorage;
 	private final UserStorage userStorage;
 	private final PlaylistStorage playlistStorage;
 	private final SimpMessageSendingOperations messagingTemplate;
-	private final RedisTemplate<String, ChatHistory> chatRedisTemplate;
+	private final ChatStorage chatStorage;
+	private final ChatSearchIndex chatSearchIndex;
+	private final RoomMemberStorage roomMemberStorage;
+	private final UserContext userContext;
+	private final int largeRoomThreshold;
+
+	public MessageService(RoomStorage roomStorage, UserStorage userStorage, PlaylistStorage playlistStorage,
+		SimpMessageSendingOperations messagingTemplate, ChatStorage chatStorage, ChatSearchIndex chatSearchIndex,
+		RoomMemberStorage roomMemberStorage, UserContext userContext, RoomProperties roomProperties) {
+		this.roomStorage = roomStorage;
+		this.userStorage = userStorage;
+		this.playlistStorage = playlistStorage;
+		this.messagingTemplate = messagingTemplate;
+		this.chatStorage = chatStorage;
+		this.chatSearchIndex = chatSearchIndex;
+		this.roomMemberStorage = roomMemberStorage;
+		this.userContext = userContext;
+		this.largeRoomThreshold = roomProperties.getLargeRoomThreshold();
+	}
 
 	public void sendChat(ChatMessage message) {
+		message.setChatId(chatStorage.nextChatId());
 		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + message.getRoomCode(), message);
 
-		chatRedisTemplate.opsForList().rightPush(CHAT_PREFIX + message.getRoomCode(), new ChatHistory(message));
-		chatRedisTemplate.opsForList().trim(CHAT_PREFIX + message.getRoomCode(), -100, -1);
+		ChatHistory chatHistory = new ChatHistory(message);
+		chatStorage.save(message.getRoomCode(), chatHistory);
+		chatSearchIndex.add(message.getRoomCode(), chatHistory);
+	}
+
+	// 방 구독을 시작한 세션에게만 전체 목록을 보내고, 방에는 변경분만 브로드캐스트한다
+	public void sendParticipants(String roomCode, String sessionId) {
+		long participantCount = roomMemberStorage.count(roomCode);
+		if (isLargeRoom(participantCount)) {
+			messagingTemplate.convertAndSendToUser(sessionId, PARTICIPANTS_PATH, createParticipantSummary(roomCode, participantCount),
+				sessionHeaders(sessionId));
+			return;
+		}
+
+		List<Participant> participants = roomMemberStorage.findAll(roomCode);
+		if (participants.isEmpty()) {
+			participants = loadParticipants(roomCode);
+		}
+
+		messagingTemplate.convertAndSendToUser(sessionId, PARTICIPANTS_PATH, new ParticipantsMessage(participants),
+			sessionHeaders(sessionId));
+	}
+
+	// 전송 제한으로 버린 영상 조작을 보낸 세션에 알린다, 영상 조작 응답과 같은 경로로 보낸다
+	public void sendThrottled(String sessionId, MessageType messageType) {
+		messagingTemplate.convertAndSendToUser(sessionId, VIDEO_ACK_PATH, new ThrottledMessage(messageType), sessionHeaders(sessionId));
+	}
+
+	// 로그인 유저가 없는 세션이므로 세션 ID 로 유저 목적지를 찾는다
+	private MessageHeaders sessionHeaders(String sessionId) {
+		SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		headerAccessor.setSessionId(sessionId);
+		headerAccessor.setLeaveMutable(true);
+		return headerAccessor.getMessageHeaders();
+	}
+
+	public void sendParticipantChanges(String roomCode, ParticipantChangesMessage message) {
+		long participantCount = roomMemberStorage.count(roomCode);
+		if (isLargeRoom(participantCount)) {
+			sendParticipantSummary(roomCode, participantCount);
+			return;
+		}
+
+		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + roomCode, message);
+	}
+
+	// 큰 방은 모든 멤버에게 전체 목록을 보내면 트래픽이 인원 수의 제곱으로 늘어나므로
+	// 인원 수와 HOST, MANAGER, EDITOR 만 보내고 나머지는 참여자 목록 조회 API 로 나눠서 조회한다
+	private boolean isLargeRoom(long participantCount) {
+		return participantCount > largeRoomThreshold;
 	}
 
-	public void sendParticipants(String roomCode) {
+	private void sendParticipantSummary(String roomCode, long participantCount) {
+		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + roomCode, createParticipantSummary(roomCode, participantCount));
+	}
+
+	private ParticipantSummaryMessage createParticipantSummary(String roomCode, long participantCount) {
+		return new ParticipantSummaryMessage(participantCount, roomMemberStorage.findPrivileged(roomCode));
+	}
+
+	// 멤버 해시가 없는 방(빈 방, 멤버 해시 도입 전에 입장한 방)은 유저 검색으로 해시를 채운 뒤 다시 조회한다
+	// 검색 결과에는 그 사이 퇴장한 유저가 남아있을 수 있으므로 스크립트가 걸러낸 해시를 기준으로 보낸다
+	private List<Participant> loadParticipants(String roomCode) {
 		if (!roomStorage.existsById(roomCode)) {
 			throw new RoomNoExistenceException();
 		}
@@ -53,9 +142,8 @@ public class MessageService {
 		List<Participant> participants = userStorage.findAllByCurrentRoomCode(roomCode).stream()
 			.map(Participant::new)
 			.toList();
-
-		ParticipantsMessage participantsMessage = new ParticipantsMessage(participants);
-		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + roomCode, participantsMessage);
+		roomMemberStorage.backfill(roomCode, participants);
+		return roomMemberStorage.findAll(roomCode);
 	}
 
 	public void sendRoomTitle(String roomCode) {
@@ -82,19 +170,59 @@ public class MessageService {
 		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + message.getRoomCode(), message);
 	}
 
-	public void sendAlarm(AlarmMessage message) {
+	public void sendAlarm(String roomCode, String content) {
+		AlarmMessage message = new AlarmMessage(chatStorage.nextChatId(), roomCode, content);
 		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + message.getRoomCode(), message);
 
-		chatRedisTemplate.opsForList().rightPush(CHAT_PREFIX + message.getRoomCode(), new ChatHistory(message));
-		chatRedisTemplate.opsForList().trim(CHAT_PREFIX + message.getRoomCode(), -100, -1);
+		chatStorage.save(message.getRoomCode(), new ChatHistory(message));
 	}
 
 	public void sendChatHistories(String roomCode) {
-		List<ChatHistory> chatHistories = chatRedisTemplate.opsForList().range(CHAT_PREFIX + roomCode, 0, -1);
+		List<ChatHistory> chatHistories = chatStorage.findLatest(roomCode, CHAT_HISTORY_PAGE_SIZE);
 
 		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + roomCode, new ChatHistoriesMessage(chatHistories));
 	}
 
+	public ChatHistoryList fetchChatHistories(Long userId, Long before, Long after, int size) {
+		User user = userContext.get(userId);
+		String roomCode = user.getCurrentRoomCode();
+		int pageSize = Math.min(Math.max(size, 1), CHAT_HISTORY_LENGTH);
+
+		if (after != null) {
+			List<ChatHistory> chatHistories = chatStorage.findAfter(roomCode, after, pageSize + 1);
+			boolean hasNext = chatHistories.size() > pageSize;
+			if (hasNext) {
+				chatHistories.remove(chatHistories.size() - 1);
+			}
+			return new ChatHistoryList(hasNext, chatHistories);
+		}
+
+		List<ChatHistory> chatHistories = before == null
+			? chatStorage.findLatest(roomCode, pageSize + 1)
+			: chatStorage.findBefore(roomCode, before, pageSize + 1);
+		boolean hasNext = chatHistories.size() > pageSize;
+		if (hasNext) {
+			chatHistories.remove(0);
+		}
+		return new ChatHistoryList(hasNext, chatHistories);
+	}
+
+	public ChatHistoryList searchChatHistories(Long userId, String keyword, Long before, int size) {
+		User user = userContext.get(userId);
+		int pageSize = Math.min(Math.max(size, 1), CHAT_HISTORY_LENGTH);
+
+		List<ChatHistory> chatHistories = chatSearchIndex.search(user.getCurrentRoomCode(), keyword, before, pageSize + 1);
+		boolean hasNext = chatHistories.size() > pageSize;
+		if (hasNext) {
+			chatHistories.remove(chatHistories.size() - 1);
+		}
+		return new ChatHistoryList(hasNext, chatHistories);
+	}
+
+	public void sendLobbyChanges(LobbyMessage message) {
+		messagingTemplate.convertAndSend(LOBBY_PATH, message);
+	}
+
 	public void sendStartVideoInfo(String roomCode, String videoTitle, String channelTitle) {
 		messagingTemplate.convertAndSend(SUBSCRIBE_PATH + roomCode, new StartVideoInfoMessage(videoTitle, channelTitle));
 	}
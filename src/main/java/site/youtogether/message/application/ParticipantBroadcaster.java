@@ -0,0 +1,146 @@
+package site.youtogether.message.application;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import site.youtogether.config.property.RoomProperties;
+import site.youtogether.message.ParticipantChange;
+import site.youtogether.message.ParticipantChange.ChangeKind;
+import site.youtogether.message.ParticipantChangesMessage;
+import site.youtogether.room.Participant;
+
+/**
+ * Sends participant deltas instead of full lists, at most one message per room per window.
+ * Full lists go only to the session that subscribed, see MessageService#sendParticipants.
+ */
+@Component
+@Slf4j
+public class ParticipantBroadcaster {
+
+	private final MessageService messageService;
+	private final long windowMillis;
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "participant-broadcaster");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public ParticipantBroadcaster(MessageService messageService, RoomProperties roomProperties) {
+		this.messageService = messageService;
+		this.windowMillis = roomProperties.getParticipantBroadcastWindow().toMillis();
+	}
+
+	public void joined(String roomCode, Participant participant) {
+		submit(roomCode, window -> window.merge(new ParticipantChange(ChangeKind.JOINED, participant.getUserId(), participant)));
+	}
+
+	public void left(String roomCode, Long userId) {
+		submit(roomCode, window -> window.merge(new ParticipantChange(ChangeKind.LEFT, userId, null)));
+	}
+
+	public void roleChanged(String roomCode, Participant participant) {
+		submit(roomCode, window -> window.merge(new ParticipantChange(ChangeKind.ROLE_CHANGED, participant.getUserId(), participant)));
+	}
+
+	public void nicknameChanged(String roomCode, Participant participant) {
+		submit(roomCode, window -> window.merge(new ParticipantChange(ChangeKind.NICKNAME_CHANGED, participant.getUserId(), participant)));
+	}
+
+	private void submit(String roomCode, WindowUpdate update) {
+		if (windowMillis <= 0) {
+			Window window = new Window();
+			update.apply(window);
+			send(roomCode, window);
+			return;
+		}
+
+		windows.compute(roomCode, (code, window) -> {
+			if (window == null) {
+				window = new Window();
+				scheduler.schedule(() -> flush(code), windowMillis, TimeUnit.MILLISECONDS);
+			}
+			update.apply(window);
+			return window;
+		});
+	}
+
+	private void flush(String roomCode) {
+		Window window = windows.remove(roomCode);
+		if (window == null) {
+			return;
+		}
+
+		try {
+			send(roomCode, window);
+		} catch (RuntimeException e) {
+			log.warn("--ROOM {} 참여자 변경 전송 실패--", roomCode, e);
+		}
+	}
+
+	private void send(String roomCode, Window window) {
+		if (!window.changes.isEmpty()) {
+			messageService.sendParticipantChanges(roomCode, new ParticipantChangesMessage(new ArrayList<>(window.changes.values())));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	@FunctionalInterface
+	private interface WindowUpdate {
+
+		void apply(Window window);
+
+	}
+
+	private static class Window {
+
+		private final Map<Long, ParticipantChange> changes = new LinkedHashMap<>();
+		private final Set<Long> newcomers = new HashSet<>();         // 창이 열리기 전에는 방에 없던 유저
+
+		// 유저별로 마지막 상태만 남긴다. 창 안에서 새로 입장했다가 퇴장한 유저는 아무것도 보내지 않는다
+		private void merge(ParticipantChange change) {
+			Long userId = change.getUserId();
+			ParticipantChange previous = changes.get(userId);
+			if (previous == null) {
+				if (change.getKind() == ChangeKind.JOINED) {
+					newcomers.add(userId);
+				}
+				changes.put(userId, change);
+				return;
+			}
+
+			if (change.getKind() == ChangeKind.LEFT) {
+				if (newcomers.contains(userId)) {
+					changes.remove(userId);
+					newcomers.remove(userId);
+				} else {
+					changes.put(userId, change);
+				}
+				return;
+			}
+			if (change.getKind() == ChangeKind.JOINED || previous.getKind() == ChangeKind.LEFT) {
+				changes.put(userId, change.getKind() == ChangeKind.JOINED ? change : previous);
+				return;
+			}
+			ChangeKind kind = previous.getKind() == ChangeKind.JOINED ? ChangeKind.JOINED : change.getKind();
+			changes.put(userId, new ParticipantChange(kind, userId, change.getParticipant()));
+		}
+
+	}
+
+}
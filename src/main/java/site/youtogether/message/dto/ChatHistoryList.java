@@ -0,0 +1,16 @@
+package site.youtogether.message.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.youtogether.message.ChatHistory;
+
+@AllArgsConstructor
+@Getter
+public class ChatHistoryList {
+
+	private final boolean hasNext;
+	private final List<ChatHistory> chatHistories;
+
+}
@@ -0,0 +1,359 @@
+package site.youtogether.message.infrastructure;
+
+import static java.nio.file.StandardOpenOption.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import site.youtogether.config.property.ChatProperties;
+import site.youtogether.message.ChatHistory;
+
+/**
+ * append-only chat archive on local disk
+ *
+ * directory layout : {directory}/{roomCode}/{yyyyMMdd}[_{n}].seg, a day rolls over to a new segment when segmentSize is reached
+ * record layout    : [payload length(4)] [chatId(8)] [binary ChatHistory payload]
+ * records are grouped into blocks of indexInterval records, each block keeps its offset, min and max chatId in memory
+ * chatIds are not assumed to be written in order
+ */
+@Component
+@ConditionalOnProperty(prefix = "chat.archive", name = "enabled", havingValue = "true")
+@Slf4j
+public class ChatArchive {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private static final String SEGMENT_SUFFIX = ".seg";
+	private static final String ROLL_SEPARATOR = "_";
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+	private static final Comparator<ChatHistory> CHAT_ID_ORDER = Comparator.comparing(ChatHistory::getChatId);
+
+	private final Path directory;
+	private final int indexInterval;
+	private final long segmentSize;
+	private final ChatHistorySerializer serializer = new ChatHistorySerializer(ChatHistoryCodec.BINARY);
+	private final Map<String, RoomArchive> roomArchives = new ConcurrentHashMap<>();
+
+	public ChatArchive(ChatProperties chatProperties) {
+		this.directory = Paths.get(chatProperties.getArchive().getDirectory());
+		this.indexInterval = Math.max(1, chatProperties.getArchive().getIndexInterval());
+		this.segmentSize = Math.min(chatProperties.getArchive().getSegmentSize().toBytes(), Integer.MAX_VALUE);   // 세그먼트는 int 오프셋으로 매핑한다
+	}
+
+	public void append(String roomCode, ChatHistory chatHistory) {
+		if (chatHistory.getChatId() == null) {
+			return;
+		}
+
+		String day = LocalDate.now(ZONE).format(DateTimeFormatter.BASIC_ISO_DATE);
+		try {
+			roomArchive(roomCode).append(day, chatHistory.getChatId(), serializer.serialize(chatHistory));
+		} catch (IOException e) {                                           // 아카이브 기록 실패가 채팅 전송을 막지 않도록 로그만 남김
+			log.warn("--ROOM {} 채팅 아카이브 기록 실패--", roomCode, e);
+		}
+	}
+
+	/**
+	 * returns at most size entries older than chatId, oldest first
+	 */
+	public List<ChatHistory> findBefore(String roomCode, long chatId, int size) {
+		PriorityQueue<ChatHistory> newest = new PriorityQueue<>(CHAT_ID_ORDER);            // 지금까지 찾은 가장 최근 size 개
+		List<Segment> segments = List.copyOf(roomArchive(roomCode).segments);
+
+		try {
+			// olderMax[i] : i 번째 세그먼트보다 앞선 세그먼트들의 가장 큰 chatId
+			long[] olderMax = new long[segments.size()];
+			long max = Long.MIN_VALUE;
+			for (int i = 0; i < segments.size(); i++) {
+				olderMax[i] = max;
+				max = Math.max(max, segments.get(i).maxChatId());
+			}
+
+			for (int i = segments.size() - 1; i >= 0; i--) {
+				if (!segments.get(i).collectBefore(chatId, size, newest, olderMax[i])) {
+					break;
+				}
+			}
+		} catch (IOException e) {
+			log.warn("--ROOM {} 채팅 아카이브 조회 실패--", roomCode, e);
+		}
+
+		List<ChatHistory> chatHistories = new ArrayList<>(newest);
+		chatHistories.sort(CHAT_ID_ORDER);
+		return chatHistories;
+	}
+
+	public void delete(String roomCode) {
+		RoomArchive roomArchive = roomArchives.remove(roomCode);
+		if (roomArchive != null) {
+			roomArchive.close();
+		}
+
+		Path roomDirectory = directory.resolve(roomCode);
+		if (!Files.isDirectory(roomDirectory)) {
+			return;
+		}
+		try (Stream<Path> files = Files.list(roomDirectory)) {
+			for (Path file : files.toList()) {
+				Files.deleteIfExists(file);
+			}
+			Files.deleteIfExists(roomDirectory);
+		} catch (IOException e) {
+			log.warn("--ROOM {} 채팅 아카이브 삭제 실패--", roomCode, e);
+		}
+	}
+
+	private RoomArchive roomArchive(String roomCode) {
+		return roomArchives.computeIfAbsent(roomCode, code -> new RoomArchive(directory.resolve(code)));
+	}
+
+	// 세그먼트 파일 이름에서 날짜 부분만 꺼낸다, {yyyyMMdd}.seg 와 {yyyyMMdd}_{n}.seg 모두 처리
+	private static String dayOf(Path segmentPath) {
+		String name = segmentPath.getFileName().toString();
+		name = name.substring(0, name.length() - SEGMENT_SUFFIX.length());
+		int separator = name.indexOf(ROLL_SEPARATOR);
+		return separator < 0 ? name : name.substring(0, separator);
+	}
+
+	private class RoomArchive {
+
+		private final Path roomDirectory;
+		private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+		private RoomArchive(Path roomDirectory) {
+			this.roomDirectory = roomDirectory;
+			if (!Files.isDirectory(roomDirectory)) {
+				return;
+			}
+			try (Stream<Path> files = Files.list(roomDirectory)) {
+				files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+					.sorted()
+					.forEach(file -> segments.add(new Segment(file)));
+			} catch (IOException e) {
+				log.warn("--{} 채팅 아카이브 목록 조회 실패--", roomDirectory, e);
+			}
+		}
+
+		private synchronized void append(String day, long chatId, byte[] payload) throws IOException {
+			long recordSize = RECORD_HEADER_SIZE + payload.length;
+			Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+			int roll = 0;
+			if (segment != null && dayOf(segment.path).equals(day)) {
+				if (segment.size() + recordSize <= segmentSize) {
+					segment.append(chatId, payload);
+					return;
+				}
+				roll = countSegments(day);                                         // 크기 제한에 닿으면 같은 날짜의 다음 세그먼트로 넘어감
+			}
+			if (segment != null) {
+				segment.closeWriter();                                               // 이전 세그먼트는 더 이상 쓰지 않음
+			}
+
+			Files.createDirectories(roomDirectory);
+			String segmentName = roll == 0 ? day + SEGMENT_SUFFIX : day + ROLL_SEPARATOR + roll + SEGMENT_SUFFIX;
+			Segment next = new Segment(roomDirectory.resolve(segmentName));
+			segments.add(next);
+			next.append(chatId, payload);
+		}
+
+		private int countSegments(String day) {
+			return (int)segments.stream()
+				.filter(segment -> dayOf(segment.path).equals(day))
+				.count();
+		}
+
+		private void close() {
+			segments.forEach(Segment::closeWriter);
+		}
+
+	}
+
+	private class Segment {
+
+		private static final int OFFSET = 0;
+		private static final int MIN_CHAT_ID = 1;
+		private static final int MAX_CHAT_ID = 2;
+		private static final int PREFIX_MAX_CHAT_ID = 3;
+
+		private final Path path;
+		private final List<long[]> blocks = new ArrayList<>();                 // {offset, min chatId, max chatId, 이 블록까지의 max chatId}
+		private boolean loaded;
+		private long size;
+		private long recordCount;
+		private FileChannel writer;
+		private MappedByteBuffer mapped;
+
+		private Segment(Path path) {
+			this.path = path;
+		}
+
+		private synchronized long size() throws IOException {
+			load();
+			return size;
+		}
+
+		private synchronized long maxChatId() throws IOException {
+			load();
+			return blocks.isEmpty() ? Long.MIN_VALUE : blocks.get(blocks.size() - 1)[PREFIX_MAX_CHAT_ID];
+		}
+
+		private synchronized void append(long chatId, byte[] payload) throws IOException {
+			load();
+			if (writer == null) {
+				writer = FileChannel.open(path, CREATE, WRITE);
+				writer.truncate(size);                                            // 비정상 종료로 잘린 마지막 레코드 제거
+			}
+
+			ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length)
+				.putInt(payload.length)
+				.putLong(chatId)
+				.put(payload)
+				.flip();
+			long position = size;
+			while (record.hasRemaining()) {
+				position += writer.write(record, position);
+			}
+
+			index(chatId, size);
+			size = position;
+		}
+
+		/**
+		 * offers entries older than chatId into newest, keeping only the size newest ones
+		 * returns false when no entry of this segment or older segments can be newer than what was collected
+		 */
+		private boolean collectBefore(long chatId, int size, PriorityQueue<ChatHistory> newest, long olderMax) throws IOException {
+			long[][] index;
+			long end;
+			ByteBuffer buffer;
+			synchronized (this) {
+				load();
+				if (blocks.isEmpty()) {
+					return true;
+				}
+				index = blocks.stream().map(long[]::clone).toArray(long[][]::new);
+				end = this.size;
+				buffer = map(end);
+			}
+
+			for (int block = index.length - 1; block >= 0; block--) {
+				if (isFull(newest, size) && Math.max(index[block][PREFIX_MAX_CHAT_ID], olderMax) <= oldestOf(newest)) {
+					return false;
+				}
+				if (index[block][MIN_CHAT_ID] >= chatId || (isFull(newest, size) && index[block][MAX_CHAT_ID] <= oldestOf(newest))) {
+					continue;
+				}
+				long blockEnd = block + 1 < index.length ? index[block + 1][OFFSET] : end;
+				readBlock(buffer, index[block][OFFSET], blockEnd, chatId, size, newest);
+			}
+			return true;
+		}
+
+		private void readBlock(ByteBuffer buffer, long from, long to, long chatId, int size, PriorityQueue<ChatHistory> newest) {
+			int position = Math.toIntExact(from);
+			while (position < to) {
+				int length = buffer.getInt(position);
+				long recordChatId = buffer.getLong(position + Integer.BYTES);
+				if (recordChatId < chatId && (!isFull(newest, size) || recordChatId > oldestOf(newest))) {
+					byte[] payload = new byte[length];
+					buffer.get(position + RECORD_HEADER_SIZE, payload);
+					newest.offer(serializer.deserialize(payload));
+					if (newest.size() > size) {
+						newest.poll();
+					}
+				}
+				position += RECORD_HEADER_SIZE + length;
+			}
+		}
+
+		private boolean isFull(PriorityQueue<ChatHistory> newest, int size) {
+			return newest.size() >= size;
+		}
+
+		private long oldestOf(PriorityQueue<ChatHistory> newest) {
+			return newest.peek().getChatId();
+		}
+
+		private MappedByteBuffer map(long length) throws IOException {
+			if (mapped == null || mapped.capacity() < length) {
+				try (FileChannel channel = FileChannel.open(path, READ)) {
+					mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+				}
+			}
+			return mapped;
+		}
+
+		// 세그먼트를 처음 사용할 때 파일을 한 번 훑어 블록 인덱스를 만든다
+		private void load() throws IOException {
+			if (loaded) {
+				return;
+			}
+			loaded = true;
+			if (!Files.exists(path)) {
+				return;
+			}
+
+			long fileSize = Math.min(Files.size(path), Integer.MAX_VALUE);
+			if (fileSize == 0) {
+				return;
+			}
+			ByteBuffer buffer = map(fileSize);
+			long position = 0;
+			while (position + RECORD_HEADER_SIZE <= fileSize) {
+				int length = buffer.getInt(Math.toIntExact(position));
+				long next = position + RECORD_HEADER_SIZE + length;
+				if (length < 0 || next > fileSize) {
+					break;
+				}
+				index(buffer.getLong(Math.toIntExact(position) + Integer.BYTES), position);
+				position = next;
+			}
+			size = position;
+		}
+
+		private void index(long chatId, long offset) {
+			if (recordCount++ % indexInterval == 0) {
+				long prefixMax = blocks.isEmpty() ? chatId : Math.max(blocks.get(blocks.size() - 1)[PREFIX_MAX_CHAT_ID], chatId);
+				blocks.add(new long[] {offset, chatId, chatId, prefixMax});
+				return;
+			}
+			long[] last = blocks.get(blocks.size() - 1);
+			last[MIN_CHAT_ID] = Math.min(last[MIN_CHAT_ID], chatId);
+			last[MAX_CHAT_ID] = Math.max(last[MAX_CHAT_ID], chatId);
+			last[PREFIX_MAX_CHAT_ID] = Math.max(last[PREFIX_MAX_CHAT_ID], chatId);
+		}
+
+		private synchronized void closeWriter() {
+			if (writer == null) {
+				return;
+			}
+			try {
+				writer.close();
+			} catch (IOException e) {
+				log.warn("--{} 채팅 아카이브 닫기 실패--", path, e);
+			}
+			writer = null;
+		}
+
+	}
+
+}
@@ -0,0 +1,7 @@
+package site.youtogether.message.infrastructure;
+
+public enum ChatHistoryCodec {
+
+	JSON, BINARY
+
+}
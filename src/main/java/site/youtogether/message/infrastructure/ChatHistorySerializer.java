@@ -0,0 +1,250 @@
+package site.youtogether.message.infrastructure;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+
+/**
+ * ChatHistory serializer
+ * writes JSON or compact binary layout according to codec, and reads both formats
+ *
+ * binary layout : [format(1)] [messageType code(1)] [flags(1)] [chatId] [userId] [createdAt] [content length + UTF-8 bytes]
+ * createdAt : [epoch seconds] [nanos] [shape(1)], shape is the fraction digit count, or NO_SECONDS for "HH:mm" strings
+ * numbers are unsigned varint, absent fields are omitted by flags
+ * createdAt strings that can not be rebuilt exactly from the layout are stored raw
+ */
+public class ChatHistorySerializer implements RedisSerializer<ChatHistory> {
+
+	private static final byte BINARY_FORMAT = 1;
+	private static final byte JSON_FORMAT = '{';
+	private static final int NO_MESSAGE_TYPE = 0xFF;
+
+	private static final int HAS_CHAT_ID = 1;
+	private static final int HAS_USER_ID = 1 << 1;
+	private static final int HAS_CONTENT = 1 << 2;
+	private static final int HAS_RAW_CREATED_AT = 1 << 4;
+	private static final int HAS_CREATED_AT = 1 << 5;
+
+	private static final int NO_SECONDS = 0xFF;
+	private static final DateTimeFormatter MINUTE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm");
+	private static final DateTimeFormatter[] SECOND_FORMATTERS = new DateTimeFormatter[10];
+
+	static {
+		for (int digits = 0; digits < SECOND_FORMATTERS.length; digits++) {
+			DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder().appendPattern("uuuu-MM-dd'T'HH:mm:ss");
+			if (digits > 0) {
+				builder.appendFraction(ChronoField.NANO_OF_SECOND, digits, digits, true);
+			}
+			SECOND_FORMATTERS[digits] = builder.toFormatter();
+		}
+	}
+
+	private final ChatHistoryCodec codec;
+	private final Jackson2JsonRedisSerializer<ChatHistory> jsonSerializer = new Jackson2JsonRedisSerializer<>(ChatHistory.class);
+
+	public ChatHistorySerializer(ChatHistoryCodec codec) {
+		this.codec = codec;
+	}
+
+	@Override
+	public byte[] serialize(ChatHistory chatHistory) throws SerializationException {
+		if (chatHistory == null || codec == ChatHistoryCodec.JSON) {
+			return jsonSerializer.serialize(chatHistory);
+		}
+
+		Integer shape = shapeOf(chatHistory.getCreatedAt());
+		byte[] content = chatHistory.getContent() == null ? null : chatHistory.getContent().getBytes(UTF_8);
+		byte[] rawCreatedAt = chatHistory.getCreatedAt() != null && shape == null ? chatHistory.getCreatedAt().getBytes(UTF_8) : null;
+
+		int flags = 0;
+		flags |= chatHistory.getChatId() != null ? HAS_CHAT_ID : 0;
+		flags |= chatHistory.getUserId() != null ? HAS_USER_ID : 0;
+		flags |= content != null ? HAS_CONTENT : 0;
+		flags |= shape != null ? HAS_CREATED_AT : 0;
+		flags |= rawCreatedAt != null ? HAS_RAW_CREATED_AT : 0;
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(32 + (content == null ? 0 : content.length));
+		out.write(BINARY_FORMAT);
+		out.write(chatHistory.getMessageType() == null ? NO_MESSAGE_TYPE : toCode(chatHistory.getMessageType()));
+		out.write(flags);
+		if (chatHistory.getChatId() != null) {
+			writeVarLong(out, chatHistory.getChatId());
+		}
+		if (chatHistory.getUserId() != null) {
+			writeVarLong(out, chatHistory.getUserId());
+		}
+		if (shape != null) {
+			Instant instant = LocalDateTime.parse(chatHistory.getCreatedAt()).toInstant(ZoneOffset.UTC);
+			writeVarLong(out, instant.getEpochSecond());
+			writeVarLong(out, instant.getNano());
+			out.write(shape);
+		}
+		if (rawCreatedAt != null) {
+			writeBytes(out, rawCreatedAt);
+		}
+		if (content != null) {
+			writeBytes(out, content);
+		}
+
+		return out.toByteArray();
+	}
+
+	@Override
+	public ChatHistory deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		if (bytes[0] == JSON_FORMAT) {                        // 이전에 JSON 으로 저장된 채팅 기록
+			return jsonSerializer.deserialize(bytes);
+		}
+		if (bytes[0] != BINARY_FORMAT) {
+			throw new SerializationException("Unknown chat history format: " + bytes[0]);
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+			int messageTypeCode = buffer.get() & 0xFF;
+			int flags = buffer.get() & 0xFF;
+
+			MessageType messageType = fromCode(messageTypeCode);
+			Long chatId = (flags & HAS_CHAT_ID) != 0 ? readVarLong(buffer) : null;
+			Long userId = (flags & HAS_USER_ID) != 0 ? readVarLong(buffer) : null;
+			String createdAt = null;
+			if ((flags & HAS_CREATED_AT) != 0) {
+				Instant instant = Instant.ofEpochSecond(readVarLong(buffer), readVarLong(buffer));
+				createdAt = formatterOf(buffer.get() & 0xFF).format(toLocalDateTime(instant));
+			}
+			if ((flags & HAS_RAW_CREATED_AT) != 0) {
+				createdAt = readString(buffer);
+			}
+			String content = (flags & HAS_CONTENT) != 0 ? readString(buffer) : null;
+
+			return new ChatHistory(messageType, chatId, userId, content, createdAt);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new SerializationException("Broken chat history binary", e);
+		}
+	}
+
+	// 저장된 값으로 원래 문자열을 그대로 다시 만들 수 있을 때만 shape 를 반환한다
+	private Integer shapeOf(String createdAt) {
+		if (createdAt == null) {
+			return null;
+		}
+		int timeStart = createdAt.indexOf('T');
+		int fractionStart = createdAt.indexOf('.', timeStart + 1);
+		int shape;
+		if (fractionStart >= 0) {
+			shape = createdAt.length() - fractionStart - 1;
+		} else {
+			shape = createdAt.indexOf(':', createdAt.indexOf(':', timeStart + 1) + 1) >= 0 ? 0 : NO_SECONDS;
+		}
+		if (timeStart < 0 || (shape != NO_SECONDS && shape >= SECOND_FORMATTERS.length)) {
+			return null;
+		}
+
+		try {
+			return formatterOf(shape).format(LocalDateTime.parse(createdAt)).equals(createdAt) ? shape : null;
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private DateTimeFormatter formatterOf(int shape) {
+		if (shape == NO_SECONDS) {
+			return MINUTE_FORMATTER;
+		}
+		if (shape >= SECOND_FORMATTERS.length) {
+			throw new SerializationException("Unknown createdAt shape in chat history binary: " + shape);
+		}
+		return SECOND_FORMATTERS[shape];
+	}
+
+	private LocalDateTime toLocalDateTime(Instant instant) {
+		return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+	}
+
+	// 저장된 데이터의 코드는 바뀌면 안 된다, 새 타입에는 새 코드를 붙인다
+	private int toCode(MessageType messageType) {
+		return switch (messageType) {
+			case CHAT -> 0;
+			case PARTICIPANTS -> 1;
+			case ROOM_TITLE -> 2;
+			case PLAYLIST -> 3;
+			case ALARM -> 4;
+			case CHAT_HISTORIES -> 5;
+			case START_VIDEO_INFO -> 6;
+			case VIDEO_SYNC_INFO -> 7;
+			case LOBBY_CHANGES -> 8;
+			case PARTICIPANT_CHANGES -> 9;
+			case PARTICIPANT_SUMMARY -> 10;
+			case THROTTLED -> 11;
+		};
+	}
+
+	private MessageType fromCode(int code) {
+		return switch (code) {
+			case 0 -> MessageType.CHAT;
+			case 1 -> MessageType.PARTICIPANTS;
+			case 2 -> MessageType.ROOM_TITLE;
+			case 3 -> MessageType.PLAYLIST;
+			case 4 -> MessageType.ALARM;
+			case 5 -> MessageType.CHAT_HISTORIES;
+			case 6 -> MessageType.START_VIDEO_INFO;
+			case 7 -> MessageType.VIDEO_SYNC_INFO;
+			case 8 -> MessageType.LOBBY_CHANGES;
+			case 9 -> MessageType.PARTICIPANT_CHANGES;
+			case 10 -> MessageType.PARTICIPANT_SUMMARY;
+			case 11 -> MessageType.THROTTLED;
+			default -> null;
+		};
+	}
+
+	private void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+		writeVarLong(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private String readString(ByteBuffer buffer) {
+		int length = (int)readVarLong(buffer);
+		String value = new String(buffer.array(), buffer.position(), length, UTF_8);
+		buffer.position(buffer.position() + length);
+		return value;
+	}
+
+	private void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int)value);
+	}
+
+	private long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new SerializationException("Malformed varint in chat history binary");
+	}
+
+}
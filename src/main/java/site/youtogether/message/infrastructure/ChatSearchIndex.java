@@ -0,0 +1,179 @@
+package site.youtogether.message.infrastructure;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+
+/**
+ * in-memory bigram inverted index over chat content, scoped by room code
+ * keeps the latest CHAT_SEARCH_INDEX_LENGTH chats of each room
+ * chats sent through other nodes arrive on the chat appended channel, so every node indexes the same chats
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSearchIndex implements MessageListener {
+
+	private final ChatStorage chatStorage;
+	private final Map<String, RoomIndex> roomIndexes = new ConcurrentHashMap<>();
+
+	public void add(String roomCode, ChatHistory chatHistory) {
+		if (chatHistory.getMessageType() != MessageType.CHAT || chatHistory.getChatId() == null) {
+			return;
+		}
+		roomIndex(roomCode).add(chatHistory);
+		chatStorage.publish(roomCode, chatHistory);
+	}
+
+	// 아직 색인을 만들지 않은 방은 처음 검색할 때 Redis 에서 채우므로 건너뛴다
+	// 색인을 채우는 중이면 computeIfPresent 가 끝날 때까지 기다리므로 채우는 사이에 저장된 채팅도 빠지지 않는다
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+		String roomCode = channel.substring(CHAT_APPENDED_CHANNEL_PREFIX.length());
+		ChatHistory chatHistory = chatStorage.decode(message.getBody());
+		if (chatHistory == null || chatHistory.getMessageType() != MessageType.CHAT || chatHistory.getChatId() == null) {
+			return;
+		}
+
+		roomIndexes.computeIfPresent(roomCode, (code, roomIndex) -> {
+			roomIndex.add(chatHistory);
+			return roomIndex;
+		});
+	}
+
+	/**
+	 * returns at most size chats containing keyword and older than before, newest first
+	 */
+	public List<ChatHistory> search(String roomCode, String keyword, Long before, int size) {
+		String query = normalize(keyword).strip();
+		if (query.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return roomIndex(roomCode).search(query, before == null ? Long.MAX_VALUE : before, size);
+	}
+
+	public void delete(String roomCode) {
+		roomIndexes.remove(roomCode);
+	}
+
+	// 처음 사용하는 방은 Redis에 남아있는 채팅으로 색인을 채운다
+	private RoomIndex roomIndex(String roomCode) {
+		return roomIndexes.computeIfAbsent(roomCode, code -> {
+			RoomIndex roomIndex = new RoomIndex();
+			chatStorage.findLatest(code, CHAT_HISTORY_LENGTH).stream()
+				.filter(chatHistory -> chatHistory.getMessageType() == MessageType.CHAT && chatHistory.getChatId() != null)
+				.forEach(roomIndex::add);
+			return roomIndex;
+		});
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	private static Set<String> bigrams(String text) {
+		Set<String> bigrams = new LinkedHashSet<>();
+		for (int i = 0; i + 2 <= text.length(); i++) {
+			String bigram = text.substring(i, i + 2);
+			if (!bigram.isBlank()) {
+				bigrams.add(bigram);
+			}
+		}
+		return bigrams;
+	}
+
+	private static class RoomIndex {
+
+		private final TreeMap<Long, ChatHistory> chats = new TreeMap<>();
+		private final Map<String, TreeSet<Long>> postings = new HashMap<>();      // bigram -> chatId
+
+		// chatId 순서와 다르게 들어와도 되도록, 이미 색인한 채팅만 거른다
+		private synchronized void add(ChatHistory chatHistory) {
+			if (chats.containsKey(chatHistory.getChatId())) {                               // 부트스트랩 때 이미 색인한 채팅
+				return;
+			}
+
+			chats.put(chatHistory.getChatId(), chatHistory);
+			for (String bigram : bigrams(normalize(chatHistory.getContent()))) {
+				postings.computeIfAbsent(bigram, key -> new TreeSet<>()).add(chatHistory.getChatId());
+			}
+
+			if (chats.size() > CHAT_SEARCH_INDEX_LENGTH) {
+				evictOldest();
+			}
+		}
+
+		private void evictOldest() {
+			Map.Entry<Long, ChatHistory> oldest = chats.pollFirstEntry();
+			for (String bigram : bigrams(normalize(oldest.getValue().getContent()))) {
+				TreeSet<Long> posting = postings.get(bigram);
+				posting.remove(oldest.getKey());
+				if (posting.isEmpty()) {
+					postings.remove(bigram);
+				}
+			}
+		}
+
+		private synchronized List<ChatHistory> search(String query, long before, int size) {
+			List<ChatHistory> result = new ArrayList<>();
+			Iterator<Long> candidates = candidates(query, before);
+
+			while (candidates.hasNext() && result.size() < size) {
+				ChatHistory chatHistory = chats.get(candidates.next());
+				if (normalize(chatHistory.getContent()).contains(query)) {             // bigram 교집합은 후보일 뿐이므로 실제 포함 여부를 확인
+					result.add(chatHistory);
+				}
+			}
+			return result;
+		}
+
+		// 가장 짧은 posting 을 최신 순으로 훑으면서 나머지 posting 에도 있는 chatId 만 후보로 사용
+		private Iterator<Long> candidates(String query, long before) {
+			Set<String> bigrams = bigrams(query);
+			if (bigrams.isEmpty()) {                                                     // 한 글자 검색은 색인 없이 최신 순으로 훑음
+				return chats.headMap(before, false).descendingKeySet().iterator();
+			}
+
+			List<TreeSet<Long>> lists = new ArrayList<>();
+			for (String bigram : bigrams) {
+				TreeSet<Long> posting = postings.get(bigram);
+				if (posting == null) {
+					return Collections.emptyIterator();
+				}
+				lists.add(posting);
+			}
+			lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+			List<TreeSet<Long>> others = lists.subList(1, lists.size());
+			List<Long> candidates = new ArrayList<>();
+			for (Long chatId : lists.get(0).headSet(before, false).descendingSet()) {
+				if (others.stream().allMatch(other -> other.contains(chatId))) {
+					candidates.add(chatId);
+				}
+			}
+			return candidates.iterator();
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+package site.youtogether.message.infrastructure;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.message.ChatHistory;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatStorage {
+
+	private final RedisTemplate<String, ChatHistory> chatRedisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisScript<Long> nextChatIdScript;
+	private final Optional<ChatArchive> chatArchive;
+
+	public void save(String roomCode, ChatHistory chatHistory) {
+		chatRedisTemplate.opsForList().rightPush(CHAT_PREFIX + roomCode, chatHistory);
+		chatRedisTemplate.opsForList().trim(CHAT_PREFIX + roomCode, -CHAT_HISTORY_LENGTH, -1);
+		chatArchive.ifPresent(archive -> archive.append(roomCode, chatHistory));
+	}
+
+	// 다른 서버의 검색 색인도 같은 채팅을 볼 수 있도록 방 채널로 알린다
+	public void publish(String roomCode, ChatHistory chatHistory) {
+		chatRedisTemplate.convertAndSend(CHAT_APPENDED_CHANNEL_PREFIX + roomCode, chatHistory);
+	}
+
+	public ChatHistory decode(byte[] body) {
+		return (ChatHistory)chatRedisTemplate.getValueSerializer().deserialize(body);
+	}
+
+	/**
+	 * chat ids come from one Redis sequence, so they increase across every node regardless of clock skew
+	 */
+	public Long nextChatId() {
+		return stringRedisTemplate.execute(nextChatIdScript, List.of(CHAT_ID_SEQUENCE), String.valueOf(System.currentTimeMillis() * 1000));
+	}
+
+	public List<ChatHistory> findLatest(String roomCode, int size) {
+		List<ChatHistory> chatHistories = findAllSorted(roomCode);
+
+		return new ArrayList<>(chatHistories.subList(Math.max(chatHistories.size() - size, 0), chatHistories.size()));
+	}
+
+	public List<ChatHistory> findBefore(String roomCode, Long chatId, int size) {
+		List<ChatHistory> olderChatHistories = findAllSorted(roomCode).stream()
+			.filter(chatHistory -> chatHistory.getChatId() != null && chatHistory.getChatId() < chatId)
+			.toList();
+		LinkedList<ChatHistory> chatHistories = new LinkedList<>(
+			olderChatHistories.subList(Math.max(olderChatHistories.size() - size, 0), olderChatHistories.size()));
+
+		// Redis 리스트보다 오래된 채팅은 아카이브에서 이어서 조회
+		if (chatHistories.size() < size && chatArchive.isPresent()) {
+			Long oldestChatId = chatHistories.isEmpty() ? chatId : chatHistories.getFirst().getChatId();
+			chatHistories.addAll(0, chatArchive.get().findBefore(roomCode, oldestChatId, size - chatHistories.size()));
+		}
+
+		return chatHistories;
+	}
+
+	public List<ChatHistory> findAfter(String roomCode, Long chatId, int size) {
+		return new ArrayList<>(findAllSorted(roomCode).stream()
+			.filter(chatHistory -> chatHistory.getChatId() != null && chatHistory.getChatId() > chatId)
+			.limit(size)
+			.toList());
+	}
+
+	// 리스트는 최대 CHAT_HISTORY_LENGTH 개이므로 한 번에 읽고, 저장된 순서가 아닌 chatId 순으로 정렬한다
+	// ID 발급과 저장 사이에 다른 채팅이 먼저 저장될 수 있어서 리스트 순서와 chatId 순서가 다를 수 있다
+	private List<ChatHistory> findAllSorted(String roomCode) {
+		List<ChatHistory> chatHistories = chatRedisTemplate.opsForList().range(CHAT_PREFIX + roomCode, 0, -1);
+		if (chatHistories == null) {
+			return new ArrayList<>();
+		}
+
+		return chatHistories.stream()
+			.sorted(Comparator.comparing(ChatHistory::getChatId, Comparator.nullsFirst(Comparator.naturalOrder())))
+			.toList();
+	}
+
+}
@@ -0,0 +1,42 @@
+package site.youtogether.message.presentation;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.message.dto.ChatHistoryList;
+import site.youtogether.util.api.ApiResponse;
+import site.youtogether.util.api.ResponseResult;
+import site.youtogether.util.resolver.UserTracking;
+
+@RestController
+@RequiredArgsConstructor
+public class ChatController {
+
+	private final MessageService messageService;
+
+	@GetMapping("/chats")
+	public ResponseEntity<ApiResponse<ChatHistoryList>> fetchChatHistories(@UserTracking Long userId,
+		@RequestParam(required = false) Long before, @RequestParam(required = false) Long after,
+		@RequestParam(defaultValue = "30") int size) {
+
+		ChatHistoryList chatHistoryList = messageService.fetchChatHistories(userId, before, after, size);
+
+		return ResponseEntity.ok()
+			.body(ApiResponse.ok(ResponseResult.CHAT_HISTORY_FETCH_SUCCESS, chatHistoryList));
+	}
+
+	@GetMapping("/chats/search")
+	public ResponseEntity<ApiResponse<ChatHistoryList>> searchChatHistories(@UserTracking Long userId, @RequestParam String keyword,
+		@RequestParam(required = false) Long before, @RequestParam(defaultValue = "20") int size) {
+
+		ChatHistoryList chatHistoryList = messageService.searchChatHistories(userId, keyword, before, size);
+
+		return ResponseEntity.ok()
+			.body(ApiResponse.ok(ResponseResult.CHAT_HISTORY_SEARCH_SUCCESS, chatHistoryList));
+	}
+
+}
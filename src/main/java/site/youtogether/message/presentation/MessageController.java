@@ -4,56 +4,55 @@ import static site.youtogether.util.AppConstants.*;
 
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import site.youtogether.exception.user.ChatMessageSendDeniedException;
-import site.youtogether.exception.user.UserNoExistenceException;
 import site.youtogether.exception.user.VideoEditDeniedException;
 import site.youtogether.message.ChatMessage;
 import site.youtogether.message.VideoSyncInfoMessage;
 import site.youtogether.message.application.MessageService;
-import site.youtogether.playlist.application.PlayingVideoService;
+import site.youtogether.playlist.application.VideoControlDebouncer;
 import site.youtogether.user.User;
-import site.youtogether.user.infrastructure.UserStorage;
-import site.youtogether.util.RandomUtil;
+import site.youtogether.user.infrastructure.UserContext;
 
 @RestController
 @RequiredArgsConstructor
 public class MessageController {
 
-	private final UserStorage userStorage;
+	private final UserContext userContext;
 	private final MessageService messageService;
-	private final PlayingVideoService playingVideoService;
+	private final VideoControlDebouncer videoControlDebouncer;
 
 	@MessageMapping("/messages/chat")
 	public void handleChatMessage(ChatMessage chatMessage, SimpMessageHeaderAccessor headerAccessor) {
 		Long userId = (Long)headerAccessor.getSessionAttributes().get(USER_ID);
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 
 		if (user.isViewer()) {
 			throw new ChatMessageSendDeniedException();
 		}
 
-		chatMessage.setChatId(RandomUtil.generateChatId());
 		chatMessage.setUserId(user.getId());
 
 		messageService.sendChat(chatMessage);
 	}
 
+	// 반영은 디바운서가 나중에 하더라도, 받은 요청은 보낸 사람에게 바로 응답한다
 	@MessageMapping("/messages/video")
-	public void handleVideoSyncMessage(VideoSyncInfoMessage videoSyncInfoMessage, SimpMessageHeaderAccessor headerAccessor) {
+	@SendToUser(destinations = VIDEO_ACK_PATH, broadcast = false)
+	public VideoSyncInfoMessage handleVideoSyncMessage(VideoSyncInfoMessage videoSyncInfoMessage, SimpMessageHeaderAccessor headerAccessor) {
 		Long userId = (Long)headerAccessor.getSessionAttributes().get(USER_ID);
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 
 		if (user.isNotEditable()) {
 			throw new VideoEditDeniedException();
 		}
 
 		videoSyncInfoMessage.setRoomCode(user.getCurrentRoomCode());
-		playingVideoService.manageVideo(videoSyncInfoMessage);
+		videoControlDebouncer.submit(videoSyncInfoMessage);
+		return videoSyncInfoMessage;
 	}
 
 }
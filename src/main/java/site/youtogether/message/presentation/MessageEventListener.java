@@ -30,6 +30,9 @@ public class MessageEventListener {
 		SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
 
 		String simpDestination = event.getMessage().getHeaders().get("simpDestination").toString();
+		if (!simpDestination.startsWith(SUBSCRIBE_PATH)) {                  // 로비 구독은 방 입장 처리를 하지 않음
+			return;
+		}
 		String roomCode = simpDestination.substring(simpDestination.lastIndexOf("/") + 1);
 		headerAccessor.getSessionAttributes().put(ROOM_CODE, roomCode);
 
@@ -38,7 +41,7 @@ public class MessageEventListener {
 			.orElseThrow(UserNoExistenceException::new);
 		log.info("--USER {} ROOM {} 웹 소켓 구독 시작--", userId, roomCode);
 
-		messageService.sendParticipants(roomCode);
+		messageService.sendParticipants(roomCode, headerAccessor.getSessionId());
 		messageService.sendPlaylist(roomCode);
 		messageService.sendChatHistories(roomCode);
 	}
@@ -49,12 +52,14 @@ public class MessageEventListener {
 
 		String roomCode = (String)headerAccessor.getSessionAttributes().get(ROOM_CODE);
 		Long userId = (Long)headerAccessor.getSessionAttributes().get(USER_ID);
+		if (roomCode == null) {                                               // 방을 구독하지 않은 로비 세션
+			return;
+		}
 		User user = userStorage.findById(userId)
 			.orElseThrow(UserNoExistenceException::new);
 
 		log.info("--USER {} ROOM {} 웹 소켓 커넥션 종료 시도--", userId, roomCode);
 		roomService.leave(userId);
-		messageService.sendParticipants(roomCode);
 	}
 
 }
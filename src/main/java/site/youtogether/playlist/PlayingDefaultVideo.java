@@ -28,7 +28,7 @@ public class PlayingDefaultVideo extends PlayingVideo {
 						new VideoSyncInfoMessage(roomCode, videoId, PlayerState.END, totalTime, playerRate)
 					);
 					try {
-						playlistService.callNextVideoByTimer(roomCode);
+						playlistService.callNextVideoByTimer(roomCode, PlayingDefaultVideo.this);
 					} catch (PlaylistEmptyException ignored) {
 					}
 					timer.cancel();
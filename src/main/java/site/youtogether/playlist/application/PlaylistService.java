@@ -2,11 +2,11 @@ package site.youtogether.playlist.application;
 
 import java.time.Duration;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import site.youtogether.exception.playlist.PlaylistNoExistenceException;
-import site.youtogether.exception.user.UserNoExistenceException;
 import site.youtogether.exception.user.VideoEditDeniedException;
 import site.youtogether.message.application.MessageService;
 import site.youtogether.playlist.PlayingDefaultVideo;
@@ -18,10 +18,14 @@ import site.youtogether.playlist.dto.PlaylistAddForm;
 import site.youtogether.playlist.dto.VideoOrder;
 import site.youtogether.playlist.infrastructure.PlayingVideoStorage;
 import site.youtogether.playlist.infrastructure.PlaylistStorage;
+import site.youtogether.room.application.RoomChangedEvent;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
 import site.youtogether.user.User;
-import site.youtogether.user.infrastructure.UserStorage;
+import site.youtogether.user.infrastructure.UserContext;
 import site.youtogether.util.RandomUtil;
 import site.youtogether.util.aop.PlaylistSynchronize;
+import site.youtogether.util.lock.LockExecutor;
+import site.youtogether.util.lock.LockKey;
 
 @Service
 @RequiredArgsConstructor
@@ -29,13 +33,14 @@ public class PlaylistService {
 
 	private final PlaylistStorage playlistStorage;
 	private final PlayingVideoStorage playingVideoStorage;
-	private final UserStorage userStorage;
+	private final UserContext userContext;
 	private final MessageService messageService;
+	private final LockExecutor lockExecutor;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@PlaylistSynchronize
 	public void addVideo(Long userId, PlaylistAddForm form) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 		if (user.isNotEditable()) {
 			throw new VideoEditDeniedException();
 		}
@@ -48,6 +53,7 @@ public class PlaylistService {
 		if (!playingVideoStorage.existsById(user.getCurrentRoomCode())) {
 			Video nextVideo = playlist.playNext(video.getVideoNumber());
 			playingVideoStorage.saveAndPlay(createPlayingVideo(user.getCurrentRoomCode(), nextVideo));
+			eventPublisher.publishEvent(new RoomChangedEvent(user.getCurrentRoomCode(), ChangeType.NOW_PLAYING_CHANGED));
 			messageService.sendStartVideoInfo(user.getCurrentRoomCode(), nextVideo.getVideoTitle(), nextVideo.getChannelTitle());
 		}
 		playlistStorage.save(playlist);
@@ -55,23 +61,17 @@ public class PlaylistService {
 		messageService.sendPlaylist(user.getCurrentRoomCode());
 	}
 
-	public void callNextVideoByTimer(String roomCode) {        // PlayingVideo 타이머에 의해 수동적으로 호출되는 메서드
-		Playlist playlist = playlistStorage.findById(roomCode)
-			.orElseThrow(PlaylistNoExistenceException::new);
-
-		playingVideoStorage.delete(roomCode);                    // 다음에 재생할 영상이 없더라도, 현재 재생중인 영상을 제거해야 하므로, delete 가 선행
-		Video nextVideo = playlist.playNextCallByTimer();
-		playingVideoStorage.saveAndPlay(createPlayingVideo(roomCode, nextVideo));
-		playlistStorage.save(playlist);
-
-		messageService.sendStartVideoInfo(roomCode, nextVideo.getVideoTitle(), nextVideo.getChannelTitle());
-		messageService.sendPlaylist(roomCode);
+	// PlayingVideo 타이머에 의해 수동적으로 호출되는 메서드, 타이머는 프록시를 거치지 않으므로 직접 플레이리스트 락을 잡는다
+	public void callNextVideoByTimer(String roomCode, PlayingVideo endedVideo) {
+		lockExecutor.executeInRoom("callNextVideoByTimer", LockKey.PLAYLIST, roomCode, () -> {
+			playNextVideoByTimer(roomCode, endedVideo);
+			return null;
+		});
 	}
 
 	@PlaylistSynchronize
 	public void playNextVideo(Long userId, Long videoNumber) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 		if (user.isNotEditable()) {
 			throw new VideoEditDeniedException();
 		}
@@ -82,6 +82,7 @@ public class PlaylistService {
 		playingVideoStorage.delete(user.getCurrentRoomCode());            // 다음에 재생할 영상이 올바르지 않은 경우, 현재 재생중인 영상을 제거하면 안되므로, delete 가 후행
 		playingVideoStorage.saveAndPlay(createPlayingVideo(user.getCurrentRoomCode(), nextVideo));
 		playlistStorage.save(playlist);
+		eventPublisher.publishEvent(new RoomChangedEvent(user.getCurrentRoomCode(), ChangeType.NOW_PLAYING_CHANGED));
 
 		messageService.sendStartVideoInfo(user.getCurrentRoomCode(), nextVideo.getVideoTitle(), nextVideo.getChannelTitle());
 		messageService.sendPlaylist(user.getCurrentRoomCode());
@@ -89,8 +90,7 @@ public class PlaylistService {
 
 	@PlaylistSynchronize
 	public void reorderVideo(Long userId, VideoOrder videoOrder) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 		if (user.isNotEditable()) {
 			throw new VideoEditDeniedException();
 		}
@@ -105,8 +105,7 @@ public class PlaylistService {
 
 	@PlaylistSynchronize
 	public void deleteVideo(Long userId, Long videoNumber) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 		if (user.isNotEditable()) {
 			throw new VideoEditDeniedException();
 		}
@@ -119,6 +118,23 @@ public class PlaylistService {
 		messageService.sendPlaylist(user.getCurrentRoomCode());
 	}
 
+	private void playNextVideoByTimer(String roomCode, PlayingVideo endedVideo) {
+		if (playingVideoStorage.findById(roomCode).filter(playingVideo -> playingVideo == endedVideo).isEmpty()) {
+			return;                                                  // 락을 기다리는 동안 다른 요청이 이미 다음 영상을 재생한 경우
+		}
+		Playlist playlist = playlistStorage.findById(roomCode)
+			.orElseThrow(PlaylistNoExistenceException::new);
+
+		playingVideoStorage.delete(roomCode);                    // 다음에 재생할 영상이 없더라도, 현재 재생중인 영상을 제거해야 하므로, delete 가 선행
+		eventPublisher.publishEvent(new RoomChangedEvent(roomCode, ChangeType.NOW_PLAYING_CHANGED));   // 로비에는 다음 영상까지 반영된 상태로 전달된다
+		Video nextVideo = playlist.playNextCallByTimer();
+		playingVideoStorage.saveAndPlay(createPlayingVideo(roomCode, nextVideo));
+		playlistStorage.save(playlist);
+
+		messageService.sendStartVideoInfo(roomCode, nextVideo.getVideoTitle(), nextVideo.getChannelTitle());
+		messageService.sendPlaylist(roomCode);
+	}
+
 	private Video createVideo(PlaylistAddForm form) {
 		return Video.builder()
 			.videoId(form.getVideoId())
@@ -0,0 +1,117 @@
+package site.youtogether.playlist.application;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import site.youtogether.config.property.VideoProperties;
+import site.youtogether.message.VideoSyncInfoMessage;
+import site.youtogether.playlist.PlayerState;
+
+/**
+ * Collapses bursts of PLAY/PAUSE control messages per room.
+ * The first message of a burst is applied immediately, the latest one when the window closes.
+ * Every control message of a room is applied on the room's lane, so they are applied in the order they arrived.
+ */
+@Component
+@Slf4j
+public class VideoControlDebouncer {
+
+	private final PlayingVideoService playingVideoService;
+	private final long windowMillis;
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService[] lanes;
+
+	public VideoControlDebouncer(PlayingVideoService playingVideoService, VideoProperties videoProperties) {
+		this.playingVideoService = playingVideoService;
+		this.windowMillis = videoProperties.getControlDebounceWindow().toMillis();
+		this.lanes = new ScheduledExecutorService[videoProperties.getControlThreads()];
+		for (int i = 0; i < lanes.length; i++) {
+			String name = "video-control-debouncer-" + i;
+			lanes[i] = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	public void submit(VideoSyncInfoMessage videoSyncInfoMessage) {
+		if (windowMillis <= 0) {
+			playingVideoService.manageVideo(videoSyncInfoMessage);
+			return;
+		}
+
+		String roomCode = videoSyncInfoMessage.getRoomCode();
+		PlayerState playerState = videoSyncInfoMessage.getPlayerState();
+		if (playerState != PlayerState.PLAY && playerState != PlayerState.PAUSE) {
+			laneOf(roomCode).execute(() -> apply(videoSyncInfoMessage));
+			return;
+		}
+
+		windows.compute(roomCode, (code, current) -> {
+			if (current == null) {
+				// 조용한 상태에서 들어온 첫 요청은 지연 없이 바로 반영한다
+				laneOf(code).execute(() -> apply(videoSyncInfoMessage));
+				scheduleFlush(code);
+				return new Window();
+			}
+			current.pending = videoSyncInfoMessage;
+			return current;
+		});
+	}
+
+	private void scheduleFlush(String roomCode) {
+		laneOf(roomCode).schedule(() -> flush(roomCode), windowMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void flush(String roomCode) {
+		VideoSyncInfoMessage[] latest = new VideoSyncInfoMessage[1];
+		windows.computeIfPresent(roomCode, (code, window) -> {
+			if (window.pending == null) {
+				return null;
+			}
+			latest[0] = window.pending;
+			window.pending = null;
+			scheduleFlush(code);
+			return window;
+		});
+
+		if (latest[0] != null) {
+			apply(latest[0]);
+		}
+	}
+
+	private void apply(VideoSyncInfoMessage videoSyncInfoMessage) {
+		try {
+			playingVideoService.manageVideo(videoSyncInfoMessage);
+		} catch (RuntimeException e) {
+			log.warn("--ROOM {} 영상 제어 반영 실패--", videoSyncInfoMessage.getRoomCode(), e);
+		}
+	}
+
+	// 같은 방은 항상 같은 스레드에서 반영된다
+	private ScheduledExecutorService laneOf(String roomCode) {
+		return lanes[Math.floorMod(roomCode.hashCode(), lanes.length)];
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		for (ScheduledExecutorService lane : lanes) {
+			lane.shutdownNow();
+		}
+	}
+
+	private static class Window {
+
+		private VideoSyncInfoMessage pending;
+
+	}
+
+}
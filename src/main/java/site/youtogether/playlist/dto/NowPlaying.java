@@ -0,0 +1,13 @@
+package site.youtogether.playlist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class NowPlaying {
+
+	private String videoTitle;
+	private String thumbnail;
+
+}
@@ -0,0 +1,68 @@
+package site.youtogether.playlist.infrastructure;
+
+import static java.nio.charset.StandardCharsets.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.playlist.PlayingVideo;
+import site.youtogether.playlist.dto.NowPlaying;
+
+/**
+ * compact now-playing hash per room, readable from any node
+ */
+@Repository
+@RequiredArgsConstructor
+public class NowPlayingStorage {
+
+	private static final String VIDEO_TITLE = "videoTitle";
+	private static final String THUMBNAIL = "thumbnail";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public void save(PlayingVideo playingVideo) {
+		Map<String, String> fields = new HashMap<>();
+		fields.put(VIDEO_TITLE, playingVideo.getVideoTitle() == null ? "" : playingVideo.getVideoTitle());
+		fields.put(THUMBNAIL, playingVideo.getThumbnail() == null ? "" : playingVideo.getThumbnail());
+		redisTemplate.opsForHash().putAll(NOW_PLAYING_PREFIX + playingVideo.getRoomCode(), fields);
+	}
+
+	public void delete(String roomCode) {
+		redisTemplate.delete(NOW_PLAYING_PREFIX + roomCode);
+	}
+
+	// 방 목록 한 페이지의 재생 정보를 파이프라인 한 번으로 조회
+	public Map<String, NowPlaying> findAllById(List<String> roomCodes) {
+		byte[] videoTitleField = VIDEO_TITLE.getBytes(UTF_8);
+		byte[] thumbnailField = THUMBNAIL.getBytes(UTF_8);
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (String roomCode : roomCodes) {
+				hashGet(connection, roomCode, videoTitleField, thumbnailField);
+			}
+			return null;
+		});
+
+		Map<String, NowPlaying> nowPlayings = new HashMap<>();
+		for (int i = 0; i < roomCodes.size(); i++) {
+			List<String> values = (List<String>)results.get(i);
+			if (values != null && values.get(0) != null) {
+				nowPlayings.put(roomCodes.get(i), new NowPlaying(values.get(0), values.get(1)));
+			}
+		}
+		return nowPlayings;
+	}
+
+	private void hashGet(RedisConnection connection, String roomCode, byte[]... fields) {
+		connection.hashCommands().hMGet((NOW_PLAYING_PREFIX + roomCode).getBytes(UTF_8), fields);
+	}
+
+}
@@ -6,12 +6,15 @@ import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
+import lombok.RequiredArgsConstructor;
 import site.youtogether.playlist.PlayingVideo;
 
 @Repository
+@RequiredArgsConstructor
 public class PlayingVideoStorage {
 
 	private final Map<String, PlayingVideo> storage = new HashMap<>();
+	private final NowPlayingStorage nowPlayingStorage;
 
 	public boolean existsById(String roomCode) {
 		return storage.containsKey(roomCode);
@@ -23,10 +26,12 @@ public class PlayingVideoStorage {
 
 	public void saveAndPlay(PlayingVideo playingVideo) {
 		storage.put(playingVideo.getRoomCode(), playingVideo);
+		nowPlayingStorage.save(playingVideo);
 		playingVideo.startAt(0);
 	}
 
 	public void delete(String roomCode) {
+		nowPlayingStorage.delete(roomCode);
 		Optional.ofNullable(storage.remove(roomCode))
 			.ifPresent(PlayingVideo::stop);
 	}
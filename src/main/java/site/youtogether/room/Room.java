@@ -12,8 +12,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import site.youtogether.exception.room.PasswordNotMatchException;
-import site.youtogether.exception.room.RoomCapacityExceededException;
 import site.youtogether.exception.user.ChangeRoomTitleDeniedException;
 import site.youtogether.user.User;
 
@@ -37,6 +35,12 @@ public class Room {
 	@Indexed
 	private boolean activate;
 
+	@Indexed
+	private int remainingCapacity;
+
+	@Indexed
+	private boolean passwordExist;
+
 	private int capacity;
 	private String password;
 
@@ -48,6 +52,8 @@ public class Room {
 		this.createdAt = createdAt;
 		this.password = password;
 		this.activate = activate;
+		this.remainingCapacity = capacity;
+		this.passwordExist = password != null;
 	}
 
 	public boolean hasPassword() {
@@ -61,20 +67,10 @@ public class Room {
 		title = updateTitle;
 	}
 
-	public void enter(String passwordInput) {
-		if (password != null && !password.equals(passwordInput))
-			throw new PasswordNotMatchException();
-
-		if (participantCount >= capacity) {
-			throw new RoomCapacityExceededException();
-		}
-
-		participantCount++;
-		activate = true;
-	}
-
-	public void leave() {
-		participantCount--;
+	// 문서에 아직 동기화되지 않은 최신 인원 수를 반영
+	public void updateParticipantCount(int participantCount) {
+		this.participantCount = participantCount;
+		remainingCapacity = capacity - participantCount;
 	}
 
 }
@@ -0,0 +1,99 @@
+package site.youtogether.room.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.message.LobbyChange;
+import site.youtogether.message.LobbyChange.ChangeKind;
+import site.youtogether.message.LobbyMessage;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.playlist.dto.NowPlaying;
+import site.youtogether.playlist.infrastructure.NowPlayingStorage;
+import site.youtogether.room.Room;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
+import site.youtogether.room.dto.RoomListDetail;
+import site.youtogether.room.infrastructure.ParticipantCountStorage;
+import site.youtogether.room.infrastructure.RoomStorage;
+
+/**
+ * coalesces room changes and pushes them to the lobby topic once per second
+ */
+@Component
+@RequiredArgsConstructor
+public class LobbyBroadcaster {
+
+	private final RoomStorage roomStorage;
+	private final NowPlayingStorage nowPlayingStorage;
+	private final ParticipantCountStorage participantCountStorage;
+	private final MessageService messageService;
+
+	private final Map<String, ChangeKind> pendingChanges = new ConcurrentHashMap<>();
+
+	@EventListener
+	public void handleRoomChanged(RoomChangedEvent event) {
+		pendingChanges.merge(event.getRoomCode(), toChangeKind(event.getChangeType()), this::mergeChangeKind);
+	}
+
+	@Scheduled(fixedRate = 1000)
+	public void flush() {
+		// 키 단위로 꺼내야 flush 도중 들어온 변경이 유실되지 않고 다음 주기로 넘어간다
+		Map<String, ChangeKind> changes = new HashMap<>();
+		for (String roomCode : pendingChanges.keySet()) {
+			ChangeKind changeKind = pendingChanges.remove(roomCode);
+			if (changeKind != null) {
+				changes.put(roomCode, changeKind);
+			}
+		}
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		List<String> roomCodes = new ArrayList<>(changes.keySet());
+		Map<String, Room> rooms = new HashMap<>();
+		roomStorage.findAllById(roomCodes).forEach(room -> rooms.put(room.getCode(), room));
+		Map<String, NowPlaying> nowPlayings = nowPlayingStorage.findAllById(roomCodes);
+		Map<String, Integer> participantCounts = participantCountStorage.findAllById(roomCodes);
+
+		List<LobbyChange> lobbyChanges = new ArrayList<>();
+		for (String roomCode : roomCodes) {
+			Room room = rooms.get(roomCode);
+			if (changes.get(roomCode) == ChangeKind.CLOSED || room == null) {
+				lobbyChanges.add(new LobbyChange(ChangeKind.CLOSED, roomCode, null));
+				continue;
+			}
+			room.updateParticipantCount(participantCounts.getOrDefault(roomCode, room.getParticipantCount()));
+			RoomListDetail roomListDetail = new RoomListDetail(room, Optional.ofNullable(nowPlayings.get(roomCode)));
+			lobbyChanges.add(new LobbyChange(changes.get(roomCode), roomCode, roomListDetail));
+		}
+
+		messageService.sendLobbyChanges(new LobbyMessage(lobbyChanges));
+	}
+
+	private ChangeKind toChangeKind(ChangeType changeType) {
+		if (changeType == ChangeType.CREATED) {
+			return ChangeKind.CREATED;
+		}
+		if (changeType == ChangeType.CLOSED) {
+			return ChangeKind.CLOSED;
+		}
+		return ChangeKind.UPDATED;
+	}
+
+	// 같은 주기 안에서 생성 후 변경된 방은 생성으로, 닫힌 방은 닫힘으로 한 번만 전송
+	private ChangeKind mergeChangeKind(ChangeKind previous, ChangeKind current) {
+		if (previous == ChangeKind.CLOSED || current == ChangeKind.CLOSED) {
+			return ChangeKind.CLOSED;
+		}
+		return previous == ChangeKind.CREATED ? ChangeKind.CREATED : current;
+	}
+
+}
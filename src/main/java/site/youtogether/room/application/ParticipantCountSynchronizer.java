@@ -0,0 +1,37 @@
+package site.youtogether.room.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.room.infrastructure.ParticipantCountStorage;
+
+/**
+ * reflects participant counters to the room documents once per second,
+ * so a room is reindexed at most once per second no matter how many users join
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipantCountSynchronizer {
+
+	private static final int BATCH_SIZE = 200;
+
+	private final ParticipantCountStorage participantCountStorage;
+	private final RoomListCache roomListCache;
+
+	// 방 목록의 참가자 수는 방 문서에서 읽으므로, 입장/퇴장 시점이 아니라 문서에 반영된 뒤에 캐시를 비운다
+	@Scheduled(fixedDelay = 1000)
+	public void sync() {
+		long total = 0;
+		long synced;
+		do {
+			synced = participantCountStorage.sync(BATCH_SIZE);
+			total += synced;
+		} while (synced >= BATCH_SIZE);
+
+		if (total > 0) {
+			roomListCache.clear();
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package site.youtogether.room.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RoomChangedEvent {
+
+	private final String roomCode;
+	private final ChangeType changeType;
+
+	public enum ChangeType {
+
+		CREATED, ENTERED, LEFT, TITLE_CHANGED, NOW_PLAYING_CHANGED, CLOSED
+
+	}
+
+}
@@ -0,0 +1,100 @@
+package site.youtogether.room.application;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.youtogether.config.property.RoomProperties;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
+import site.youtogether.room.dto.RoomList;
+
+/**
+ * short-lived cache of room list pages
+ * concurrent requests for the same page share a single query
+ */
+@Component
+public class RoomListCache {
+
+	private final long ttlMillis;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	public RoomListCache(RoomProperties roomProperties) {
+		this.ttlMillis = roomProperties.getListCacheTtl().toMillis();
+	}
+
+	public RoomList get(String key, Supplier<RoomList> loader) {
+		long now = System.currentTimeMillis();
+		Entry created = new Entry(now + ttlMillis);
+		Entry entry = entries.compute(key, (k, current) -> current != null && current.isAlive(now) ? current : created);
+
+		if (entry != created) {
+			return join(entry.roomList);
+		}
+
+		try {
+			RoomList roomList = loader.get();
+			entry.roomList.complete(roomList);
+			if (ttlMillis <= 0) {                                                         // TTL이 0이면 동시에 들어온 요청만 합치고 저장하지 않음
+				entries.remove(key, entry);
+			}
+			return roomList;
+		} catch (RuntimeException e) {
+			entries.remove(key, entry);
+			entry.roomList.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	// 참가자 수는 ParticipantCountSynchronizer 가 방 문서에 반영할 때 비우고, 재생 중인 영상은 TTL 이 지나면 반영된다
+	@EventListener
+	public void handleRoomChanged(RoomChangedEvent event) {
+		ChangeType changeType = event.getChangeType();
+		if (changeType == ChangeType.CREATED || changeType == ChangeType.CLOSED || changeType == ChangeType.TITLE_CHANGED) {
+			clear();
+		}
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	@Scheduled(fixedDelay = 10_000)
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		entries.values().removeIf(entry -> !entry.isAlive(now));
+	}
+
+	private RoomList join(CompletableFuture<RoomList> roomList) {
+		try {
+			return roomList.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static class Entry {
+
+		private final CompletableFuture<RoomList> roomList = new CompletableFuture<>();
+		private final long expiresAt;
+
+		private Entry(long expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		// 아직 조회 중인 항목은 만료 시각과 관계없이 공유한다
+		private boolean isAlive(long now) {
+			return !roomList.isDone() || now < expiresAt;
+		}
+
+	}
+
+}
@@ -4,50 +4,71 @@ import static site.youtogether.util.AppConstants.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import site.youtogether.exception.room.RoomNoExistenceException;
-import site.youtogether.exception.user.UserNoExistenceException;
-import site.youtogether.message.AlarmMessage;
 import site.youtogether.message.application.MessageService;
+import site.youtogether.message.application.ParticipantBroadcaster;
 import site.youtogether.playlist.Playlist;
+import site.youtogether.playlist.dto.NowPlaying;
+import site.youtogether.playlist.infrastructure.NowPlayingStorage;
 import site.youtogether.playlist.infrastructure.PlayingVideoStorage;
 import site.youtogether.playlist.infrastructure.PlaylistStorage;
+import site.youtogether.room.Participant;
 import site.youtogether.room.Room;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
 import site.youtogether.room.dto.ChangedRoomTitle;
 import site.youtogether.room.dto.NewRoom;
+import site.youtogether.room.dto.ParticipantList;
 import site.youtogether.room.dto.RoomDetail;
 import site.youtogether.room.dto.RoomList;
 import site.youtogether.room.dto.RoomListDetail;
+import site.youtogether.room.dto.RoomSearchCondition;
+import site.youtogether.room.dto.RoomSearchCondition.RoomOrder;
 import site.youtogether.room.dto.RoomSettings;
+import site.youtogether.room.dto.RoomTitleSuggestionList;
+import site.youtogether.room.infrastructure.ParticipantCountStorage;
+import site.youtogether.room.infrastructure.RoomCursor;
+import site.youtogether.room.infrastructure.RoomMemberStorage;
+import site.youtogether.room.infrastructure.RoomParticipationStorage;
 import site.youtogether.room.infrastructure.RoomStorage;
+import site.youtogether.room.infrastructure.RoomTitleIndex;
 import site.youtogether.user.User;
-import site.youtogether.user.infrastructure.UserStorage;
+import site.youtogether.user.infrastructure.UserContext;
 import site.youtogether.util.RandomUtil;
-import site.youtogether.util.aop.RoomSynchronize;
 
 @Service
 @RequiredArgsConstructor
 public class RoomService {
 
 	private final RoomStorage roomStorage;
+	private final RoomParticipationStorage roomParticipationStorage;
+	private final ParticipantCountStorage participantCountStorage;
+	private final RoomMemberStorage roomMemberStorage;
 	private final PlaylistStorage playlistStorage;
-	private final UserStorage userStorage;
+	private final UserContext userContext;
 	private final MessageService messageService;
+	private final ParticipantBroadcaster participantBroadcaster;
 	private final PlayingVideoStorage playingVideoStorage;
+	private final NowPlayingStorage nowPlayingStorage;
+	private final RoomListCache roomListCache;
+	private final RoomTitleIndex roomTitleIndex;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public NewRoom create(Long userId, RoomSettings roomSettings, LocalDateTime now) {
 		String roomCode = RandomUtil.generateRandomCode(ROOM_CODE_LENGTH);
 
-		User host = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User host = userContext.get(userId);
 		host.createRoom(roomCode);
-		userStorage.save(host);
+		userContext.save(host);
 
 		Room room = Room.builder()
 			.code(roomCode)
@@ -58,64 +79,107 @@ public class RoomService {
 			.activate(true)
 			.build();
 		roomStorage.save(room);
+		roomTitleIndex.put(roomCode, room.getTitle());
 
 		Playlist playlist = new Playlist(roomCode);
 		playlistStorage.save(playlist);
+		eventPublisher.publishEvent(new RoomChangedEvent(roomCode, ChangeType.CREATED));
 
 		return new NewRoom(roomCode, room.getPassword());
 	}
 
-	public RoomList fetchAll(Pageable pageable, String keyword) {
-		Slice<Room> roomSlice = roomStorage.findSliceBy(pageable, keyword);
+	public RoomList fetchAll(Pageable pageable, RoomSearchCondition condition, String cursor) {
+		String cacheKey = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + cursor + ":" + condition.toCacheKey();
+		return roomListCache.get(cacheKey, () -> loadRoomList(pageable, condition, cursor));
+	}
+
+	private RoomList loadRoomList(Pageable pageable, RoomSearchCondition condition, String cursor) {
+		Slice<Room> roomSlice = isOffsetPaging(pageable, condition, cursor)
+			? roomStorage.findSliceBy(pageable, condition)
+			: roomStorage.findSliceAfter(cursor == null ? null : RoomCursor.decode(cursor), pageable.getPageSize(), condition);
+
+		List<String> roomCodes = roomSlice.getContent().stream()
+			.map(Room::getCode)
+			.toList();
+		Map<String, NowPlaying> nowPlayings = nowPlayingStorage.findAllById(roomCodes);
+		Map<String, Integer> participantCounts = participantCountStorage.findAllById(roomCodes);
+		roomSlice.getContent()
+			.forEach(room -> room.updateParticipantCount(participantCounts.getOrDefault(room.getCode(), room.getParticipantCount())));
 
 		List<RoomListDetail> rooms = roomSlice.getContent().stream()
-			.map(room -> new RoomListDetail(room, playingVideoStorage.findById(room.getCode())))
+			.map(room -> new RoomListDetail(room, Optional.ofNullable(nowPlayings.get(room.getCode()))))
 			.collect(Collectors.toList());
 
-		return new RoomList(roomSlice.getNumber(), roomSlice.getPageable().getPageSize(), roomSlice.hasNext(), rooms);
+		String nextCursor = roomSlice.hasNext() && roomSlice.hasContent() && condition.getOrderBy() == RoomOrder.LATEST
+			? RoomCursor.of(roomSlice.getContent().get(roomSlice.getNumberOfElements() - 1)).encode()
+			: null;
+
+		return new RoomList(pageable.getPageNumber(), pageable.getPageSize(), roomSlice.hasNext(), nextCursor, rooms);
+	}
+
+	// 인기순은 참여자 수가 계속 바뀌어 커서가 의미 없으므로 offset 방식, 커서 없이 page 를 지정한 요청도 offset 방식으로 조회
+	private boolean isOffsetPaging(Pageable pageable, RoomSearchCondition condition, String cursor) {
+		return condition.getOrderBy() == RoomOrder.POPULAR || (cursor == null && pageable.getPageNumber() > 0);
+	}
+
+	public RoomTitleSuggestionList suggestTitles(String keyword, int size) {
+		return new RoomTitleSuggestionList(roomTitleIndex.suggest(keyword, size));
 	}
 
-	@RoomSynchronize
+	// 비밀번호, 정원 확인과 방, 유저 문서 갱신을 하나의 스크립트로 처리하므로 락이 필요 없다
 	public RoomDetail enter(String roomCode, Long userId, String passwordInput) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		roomParticipationStorage.enter(roomCode, userId, passwordInput);
+		eventPublisher.publishEvent(new RoomChangedEvent(roomCode, ChangeType.ENTERED));
+
+		userContext.evict(userId);                                                      // 스크립트가 유저 문서를 변경했으므로 다시 읽는다
+		User user = userContext.get(userId);
 		Room room = roomStorage.findById(roomCode)
 			.orElseThrow(RoomNoExistenceException::new);
-
-		user.enterRoom(roomCode);
-		room.enter(passwordInput);
-
-		userStorage.save(user);
-		roomStorage.save(room);
+		participantCountStorage.findById(roomCode)
+			.ifPresent(room::updateParticipantCount);
+		participantBroadcaster.joined(roomCode, new Participant(user));
 
 		return new RoomDetail(room, user, playingVideoStorage.findById(roomCode));
 	}
 
-	@RoomSynchronize
 	public void leave(Long userId) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
-		Room room = roomStorage.findById(user.getCurrentRoomCode())
-			.orElseThrow(RoomNoExistenceException::new);
+		User user = userContext.get(userId);
+		String roomCode = user.getCurrentRoomCode();
+
+		roomParticipationStorage.leave(roomCode, userId);
+		userContext.evict(userId);
+		eventPublisher.publishEvent(new RoomChangedEvent(roomCode, ChangeType.LEFT));
+		participantBroadcaster.left(roomCode, userId);
+	}
 
-		user.leaveRoom();
-		room.leave();
+	// 큰 방에서는 참여자 목록을 브로드캐스트하지 않으므로 필요한 클라이언트가 페이지 단위로 조회한다
+	public ParticipantList fetchParticipants(Long userId, int page, int size) {
+		User user = userContext.get(userId);
+		int pageNumber = Math.max(page, 0);
+		int pageSize = Math.min(Math.max(size, 1), PARTICIPANT_PAGE_LENGTH);
 
-		userStorage.save(user);
-		roomStorage.save(room);
+		String roomCode = user.getCurrentRoomCode();
+		long offset = (long)pageNumber * pageSize;
+
+		// 방 전체를 읽지 않도록 역할 순 정렬 인덱스에서 한 페이지만 꺼낸다
+		int participantCount = (int)roomMemberStorage.count(roomCode);
+		List<Participant> participants = roomMemberStorage.findPage(roomCode, offset, pageSize);
+
+		return new ParticipantList(pageNumber, pageSize, participantCount, offset + pageSize < participantCount, participants);
 	}
 
 	public ChangedRoomTitle changeRoomTitle(Long userId, String newTitle) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 
 		Room room = roomStorage.findById(user.getCurrentRoomCode())
 			.orElseThrow(RoomNoExistenceException::new);
 		room.changeTitle(user, newTitle);
-		roomStorage.save(room);
+		roomStorage.updateTitle(room.getCode(), room.getTitle());
+		roomTitleIndex.put(room.getCode(), room.getTitle());
+		eventPublisher.publishEvent(new RoomChangedEvent(room.getCode(), ChangeType.TITLE_CHANGED));
 
 		messageService.sendRoomTitle(user.getCurrentRoomCode());
-		messageService.sendAlarm(new AlarmMessage(RandomUtil.generateChatId(), room.getCode(), "방 제목이 " + newTitle + "(으)로 변경되었습니다."));
+		messageService.sendAlarm(room.getCode(), "방 제목이 " + newTitle + "(으)로 변경되었습니다.");
 
 		return new ChangedRoomTitle(room);
 	}
@@ -0,0 +1,19 @@
+package site.youtogether.room.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import site.youtogether.room.Participant;
+
+@AllArgsConstructor
+@Getter
+public class ParticipantList {
+
+	private final int pageNumber;
+	private final int pageSize;
+	private final int participantCount;
+	private final boolean hasNext;
+	private final List<Participant> participants;
+
+}
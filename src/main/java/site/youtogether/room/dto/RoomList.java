@@ -10,13 +10,15 @@ public class RoomList {
 	private int pageNumber;
 	private int pageSize;
 	private boolean hasNext;
+	private String nextCursor;
 
 	private List<RoomListDetail> rooms;
 
-	public RoomList(int pageNumber, int pageSize, boolean hasNext, List<RoomListDetail> rooms) {
+	public RoomList(int pageNumber, int pageSize, boolean hasNext, String nextCursor, List<RoomListDetail> rooms) {
 		this.pageNumber = pageNumber;
 		this.pageSize = pageSize;
 		this.hasNext = hasNext;
+		this.nextCursor = nextCursor;
 		this.rooms = rooms;
 	}
 
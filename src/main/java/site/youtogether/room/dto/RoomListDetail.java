@@ -4,7 +4,7 @@ import java.util.Optional;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import site.youtogether.playlist.PlayingVideo;
+import site.youtogether.playlist.dto.NowPlaying;
 import site.youtogether.room.Room;
 
 @AllArgsConstructor
@@ -19,13 +19,13 @@ public class RoomListDetail {
 	private int currentParticipant;
 	private boolean passwordExist;
 
-	public RoomListDetail(Room room, Optional<PlayingVideo> playingVideo) {
+	public RoomListDetail(Room room, Optional<NowPlaying> nowPlaying) {
 		this.roomCode = room.getCode();
 		this.roomTitle = room.getTitle();
 		this.capacity = room.getCapacity();
 		this.currentParticipant = room.getParticipantCount();
 		this.passwordExist = room.hasPassword();
-		playingVideo.ifPresent((p) -> {
+		nowPlaying.ifPresent((p) -> {
 			this.videoThumbnail = p.getThumbnail();
 			this.videoTitle = p.getVideoTitle();
 		});
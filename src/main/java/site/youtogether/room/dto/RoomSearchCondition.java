@@ -0,0 +1,29 @@
+package site.youtogether.room.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class RoomSearchCondition {
+
+	private String keyword;
+	private RoomOrder orderBy = RoomOrder.LATEST;
+	private boolean onlyAvailable;
+	private boolean onlyPublic;
+
+	public String toCacheKey() {
+		return (keyword == null ? "" : keyword.strip()) + ":" + orderBy + ":" + onlyAvailable + ":" + onlyPublic;
+	}
+
+	public enum RoomOrder {
+
+		LATEST, POPULAR
+
+	}
+
+}
@@ -0,0 +1,13 @@
+package site.youtogether.room.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RoomTitleSuggestion {
+
+	private final String roomCode;
+	private final String roomTitle;
+
+}
@@ -0,0 +1,14 @@
+package site.youtogether.room.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RoomTitleSuggestionList {
+
+	private final List<RoomTitleSuggestion> suggestions;
+
+}
@@ -0,0 +1,58 @@
+package site.youtogether.room.infrastructure;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * participant counters kept outside the indexed room document
+ * rooms whose counter changed are collected in a dirty set and copied to the document in batches
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipantCountStorage {
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisScript<Long> syncParticipantCountScript;
+
+	public Optional<Integer> findById(String roomCode) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(PARTICIPANT_COUNT_PREFIX + roomCode))
+			.map(Integer::parseInt);
+	}
+
+	// 카운터가 없는 방(아직 아무도 입장, 퇴장하지 않은 방)은 결과에서 빠지므로 문서의 값을 사용
+	public Map<String, Integer> findAllById(List<String> roomCodes) {
+		Map<String, Integer> participantCounts = new HashMap<>();
+		if (roomCodes.isEmpty()) {
+			return participantCounts;
+		}
+
+		List<String> values = redisTemplate.opsForValue().multiGet(roomCodes.stream()
+			.map(roomCode -> PARTICIPANT_COUNT_PREFIX + roomCode)
+			.toList());
+		for (int i = 0; i < roomCodes.size(); i++) {
+			if (values.get(i) != null) {
+				participantCounts.put(roomCodes.get(i), Integer.parseInt(values.get(i)));
+			}
+		}
+		return participantCounts;
+	}
+
+	/**
+	 * copies at most batchSize dirty counters to their room documents, returns the number of rooms taken
+	 */
+	public long sync(int batchSize) {
+		return redisTemplate.execute(syncParticipantCountScript, List.of(DIRTY_ROOM_SET),
+			String.valueOf(batchSize), "room:", PARTICIPANT_COUNT_PREFIX);
+	}
+
+}
@@ -0,0 +1,55 @@
+package site.youtogether.room.infrastructure;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import site.youtogether.exception.room.InvalidRoomCursorException;
+import site.youtogether.room.Room;
+
+/**
+ * position in the room list ordered by (createdAt desc, code desc)
+ * encoded as an opaque base64url token
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class RoomCursor {
+
+	private static final String DELIMITER = "|";
+
+	private final LocalDateTime createdAt;
+	private final String code;
+
+	public static RoomCursor of(Room room) {
+		return new RoomCursor(room.getCreatedAt(), room.getCode());
+	}
+
+	public static RoomCursor decode(String token) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+			int delimiterIndex = decoded.indexOf(DELIMITER);
+			if (delimiterIndex < 0) {
+				throw new InvalidRoomCursorException();
+			}
+			return new RoomCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)), decoded.substring(delimiterIndex + 1));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidRoomCursorException();
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString((createdAt + DELIMITER + code).getBytes(UTF_8));
+	}
+
+	// 커서 다음 순서에 오는 방인지 확인
+	public boolean precedes(Room room) {
+		int compared = room.getCreatedAt().compareTo(createdAt);
+		return compared < 0 || (compared == 0 && room.getCode().compareTo(code) < 0);
+	}
+
+}
@@ -0,0 +1,128 @@
+package site.youtogether.room.infrastructure;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.room.Participant;
+import site.youtogether.user.Role;
+
+/**
+ * participant projection of each room, kept in a hash of userId -> "role|nickname"
+ * HOST, MANAGER and EDITOR are also kept in their own hash, and a sorted set by role orders members for paging
+ * entries are added and removed by the enter/leave scripts
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomMemberStorage {
+
+	private static final String DELIMITER = "|";
+	private static final String USER_KEY_PREFIX = "user:";
+	private static final Comparator<Participant> ROLE_ORDER = Comparator.comparing(Participant::getRole)
+		.thenComparing(Participant::getUserId);
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisScript<Boolean> updateRoomMemberScript;
+	private final RedisScript<Long> backfillRoomMemberScript;
+
+	// 정렬 인덱스는 점수(역할 순위)가 같으면 멤버를 사전 순으로 정렬하므로 userId 를 고정 길이로 맞춘다
+	static String orderMember(Long userId) {
+		return String.format("%019d", userId);
+	}
+
+	public List<Participant> findAll(String roomCode) {
+		return decodeAll(redisTemplate.opsForHash().entries(ROOM_MEMBER_PREFIX + roomCode));
+	}
+
+	// 역할 순, 같은 역할은 userId 순으로 offset 부터 size 명
+	public List<Participant> findPage(String roomCode, long offset, int size) {
+		Set<String> orderMembers = redisTemplate.opsForZSet().range(ROOM_MEMBER_ORDER_PREFIX + roomCode, offset, offset + size - 1);
+		if (orderMembers == null || orderMembers.isEmpty()) {
+			return List.of();
+		}
+
+		List<Object> userIds = orderMembers.stream()
+			.map(orderMember -> (Object)String.valueOf(Long.parseLong(orderMember)))
+			.toList();
+		List<Object> members = redisTemplate.opsForHash().multiGet(ROOM_MEMBER_PREFIX + roomCode, userIds);
+
+		// 두 조회 사이에 퇴장한 멤버는 건너뛴다
+		List<Participant> participants = new ArrayList<>(userIds.size());
+		for (int i = 0; i < userIds.size(); i++) {
+			if (members.get(i) != null) {
+				participants.add(decode(Long.valueOf(userIds.get(i).toString()), members.get(i).toString()));
+			}
+		}
+		return participants;
+	}
+
+	public long count(String roomCode) {
+		return redisTemplate.opsForHash().size(ROOM_MEMBER_PREFIX + roomCode);
+	}
+
+	// HOST, MANAGER, EDITOR
+	public List<Participant> findPrivileged(String roomCode) {
+		return decodeAll(redisTemplate.opsForHash().entries(ROOM_PRIVILEGED_MEMBER_PREFIX + roomCode));
+	}
+
+	// 아직 방에 남아있는 유저만, 비어있는 항목에만 채운다
+	public void backfill(String roomCode, List<Participant> participants) {
+		if (participants.isEmpty()) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>();
+		args.add(roomCode);
+		args.add(USER_KEY_PREFIX);
+		participants.forEach(participant -> {
+			args.add(String.valueOf(participant.getUserId()));
+			args.add(encode(participant));
+			args.add(orderMember(participant.getUserId()));
+			args.add(String.valueOf(participant.getRole().ordinal()));
+			args.add(isPrivileged(participant) ? "1" : "0");
+		});
+		redisTemplate.execute(backfillRoomMemberScript, keys(roomCode), args.toArray());
+	}
+
+	public void update(String roomCode, Participant participant) {
+		redisTemplate.execute(updateRoomMemberScript, keys(roomCode),
+			String.valueOf(participant.getUserId()), encode(participant), orderMember(participant.getUserId()),
+			String.valueOf(participant.getRole().ordinal()), isPrivileged(participant) ? "1" : "0");
+	}
+
+	private List<String> keys(String roomCode) {
+		return List.of(ROOM_MEMBER_PREFIX + roomCode, ROOM_PRIVILEGED_MEMBER_PREFIX + roomCode, ROOM_MEMBER_ORDER_PREFIX + roomCode);
+	}
+
+	private boolean isPrivileged(Participant participant) {
+		return !participant.getRole().isLowerThan(Role.EDITOR);
+	}
+
+	private List<Participant> decodeAll(Map<Object, Object> members) {
+		return members.entrySet().stream()
+			.map(member -> decode(Long.valueOf(member.getKey().toString()), member.getValue().toString()))
+			.sorted(ROLE_ORDER)
+			.toList();
+	}
+
+	private String encode(Participant participant) {
+		String nickname = participant.getNickname() == null ? "" : participant.getNickname();
+		return participant.getRole().name() + DELIMITER + nickname;
+	}
+
+	// 역할 이름에는 구분자가 없으므로 첫 구분자 뒤는 모두 닉네임
+	private Participant decode(Long userId, String member) {
+		int index = member.indexOf(DELIMITER);
+		return new Participant(userId, member.substring(index + 1), Role.valueOf(member.substring(0, index)));
+	}
+
+}
@@ -0,0 +1,63 @@
+package site.youtogether.room.infrastructure;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.exception.room.PasswordNotMatchException;
+import site.youtogether.exception.room.RoomCapacityExceededException;
+import site.youtogether.exception.room.RoomNoExistenceException;
+import site.youtogether.exception.user.UserNoExistenceException;
+import site.youtogether.exception.user.UserNotEnteringException;
+
+/**
+ * updates the room and user documents of an enter/leave in one atomic script, without a lock
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomParticipationStorage {
+
+	private static final String ROOM_KEY_PREFIX = "room:";
+	private static final String USER_KEY_PREFIX = "user:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisScript<String> enterRoomScript;
+	private final RedisScript<String> leaveRoomScript;
+
+	public void enter(String roomCode, Long userId, String passwordInput) {
+		String result = redisTemplate.execute(enterRoomScript, keys(roomCode, userId),
+			roomCode, passwordInput == null ? "0" : "1", passwordInput == null ? "" : passwordInput, String.valueOf(USER_HISTORY_LENGTH),
+			String.valueOf(userId), RoomMemberStorage.orderMember(userId));
+		handleResult(result);
+	}
+
+	public void leave(String roomCode, Long userId) {
+		String result = redisTemplate.execute(leaveRoomScript, keys(roomCode, userId), roomCode, String.valueOf(userId),
+			RoomMemberStorage.orderMember(userId));
+		handleResult(result);
+	}
+
+	private List<String> keys(String roomCode, Long userId) {
+		return List.of(ROOM_KEY_PREFIX + roomCode, USER_KEY_PREFIX + userId, PARTICIPANT_COUNT_PREFIX + roomCode, DIRTY_ROOM_SET,
+			ROOM_MEMBER_PREFIX + roomCode, ROOM_PRIVILEGED_MEMBER_PREFIX + roomCode, ROOM_MEMBER_ORDER_PREFIX + roomCode);
+	}
+
+	private void handleResult(String result) {
+		switch (result) {
+			case "OK" -> {
+			}
+			case "USER_NOT_FOUND" -> throw new UserNoExistenceException();
+			case "ROOM_NOT_FOUND" -> throw new RoomNoExistenceException();
+			case "PASSWORD_NOT_MATCH" -> throw new PasswordNotMatchException();
+			case "CAPACITY_EXCEEDED" -> throw new RoomCapacityExceededException();
+			case "USER_NOT_ENTERING" -> throw new UserNotEnteringException();
+			default -> throw new IllegalStateException("unexpected script result: " + result);
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package site.youtogether.room.infrastructure;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +15,8 @@ import com.redis.om.spring.search.stream.SearchStream;
 import redis.clients.jedis.search.aggr.SortedField;
 import site.youtogether.room.Room;
 import site.youtogether.room.Room$;
+import site.youtogether.room.dto.RoomSearchCondition;
+import site.youtogether.room.dto.RoomSearchCondition.RoomOrder;
 
 public class RoomSearchStreamBuilder {
 
@@ -30,16 +33,52 @@ public class RoomSearchStreamBuilder {
 		return this;
 	}
 
+	public RoomSearchStreamBuilder filterAvailable(boolean onlyAvailable) {
+		if (onlyAvailable) {
+			roomSearchStream = roomSearchStream.filter(Room$.REMAINING_CAPACITY.gt(0));
+		}
+		return this;
+	}
+
+	public RoomSearchStreamBuilder filterPublic(boolean onlyPublic) {
+		if (onlyPublic) {
+			roomSearchStream = roomSearchStream.filter(Room$.PASSWORD_EXIST.eq(false));
+		}
+		return this;
+	}
+
+	public RoomSearchStreamBuilder filterBy(RoomSearchCondition condition) {
+		return filterTitleContaining(condition.getKeyword())
+			.filterAvailable(condition.isOnlyAvailable())
+			.filterPublic(condition.isOnlyPublic());
+	}
+
 	public RoomSearchStreamBuilder filterNoParticipant() {
 		roomSearchStream = roomSearchStream.filter(Room$.PARTICIPANT_COUNT.gt(0));
 		return this;
 	}
 
+	public RoomSearchStreamBuilder filterCreatedAtOnOrBefore(LocalDateTime createdAt) {
+		if (createdAt != null) {
+			roomSearchStream = roomSearchStream.filter(Room$.CREATED_AT.onOrBefore(createdAt));
+		}
+		return this;
+	}
+
 	public RoomSearchStreamBuilder sortByCreatedAtDesc() {
 		roomSearchStream = roomSearchStream.sorted(Room$.CREATED_AT, SortedField.SortOrder.DESC);
 		return this;
 	}
 
+	public RoomSearchStreamBuilder sortByParticipantCountDesc() {
+		roomSearchStream = roomSearchStream.sorted(Room$.PARTICIPANT_COUNT, SortedField.SortOrder.DESC);
+		return this;
+	}
+
+	public RoomSearchStreamBuilder sortBy(RoomOrder order) {
+		return order == RoomOrder.POPULAR ? sortByParticipantCountDesc() : sortByCreatedAtDesc();
+	}
+
 	public Slice<Room> buildSlice(Pageable pageable) {
 		List<Room> content = roomSearchStream.skip(pageable.getOffset())
 			.limit(pageable.getPageSize() + 1)
@@ -53,4 +92,10 @@ public class RoomSearchStreamBuilder {
 
 		return new SliceImpl<>(content, pageable, hasNext);
 	}
+
+	public List<Room> buildList(long limit) {
+		return roomSearchStream.limit(limit)
+			.collect(Collectors.toList());
+	}
+
 }
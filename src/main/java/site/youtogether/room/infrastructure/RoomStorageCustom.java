@@ -4,9 +4,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import site.youtogether.room.Room;
+import site.youtogether.room.dto.RoomSearchCondition;
 
 public interface RoomStorageCustom {
 
-	Slice<Room> findSliceBy(Pageable pageable, String title);
+	Slice<Room> findSliceBy(Pageable pageable, RoomSearchCondition condition);
+
+	Slice<Room> findSliceAfter(RoomCursor cursor, int size, RoomSearchCondition condition);
+
+	void updateTitle(String roomCode, String title);
 
 }
@@ -1,27 +1,86 @@
 package site.youtogether.room.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import com.redis.om.spring.search.stream.EntityStream;
 
 import lombok.RequiredArgsConstructor;
+import site.youtogether.exception.room.RoomNoExistenceException;
 import site.youtogether.room.Room;
+import site.youtogether.room.dto.RoomSearchCondition;
 
 @Component
 @RequiredArgsConstructor
 public class RoomStorageCustomImpl implements RoomStorageCustom {
 
+	private static final Comparator<Room> LATEST_FIRST = Comparator.comparing(Room::getCreatedAt)
+		.thenComparing(Room::getCode)
+		.reversed();
+
 	private final EntityStream entityStream;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisScript<Boolean> changeRoomTitleScript;
 
 	@Override
-	public Slice<Room> findSliceBy(Pageable pageable, String keyword) {
+	public Slice<Room> findSliceBy(Pageable pageable, RoomSearchCondition condition) {
 		return new RoomSearchStreamBuilder(entityStream)
-			.filterTitleContaining(keyword)
+			.filterBy(condition)
 			// .filterNoParticipant()
-			.sortByCreatedAtDesc()
+			.sortBy(condition.getOrderBy())
 			.buildSlice(pageable);
 	}
 
+	@Override
+	public Slice<Room> findSliceAfter(RoomCursor cursor, int size, RoomSearchCondition condition) {
+		long limit = size + 1;
+		while (true) {
+			List<Room> fetched = new RoomSearchStreamBuilder(entityStream)
+				.filterBy(condition)
+				.filterCreatedAtOnOrBefore(cursor == null ? null : cursor.getCreatedAt())
+				.sortByCreatedAtDesc()
+				.buildList(limit);
+			boolean exhausted = fetched.size() < limit;
+
+			List<Room> rooms = fetched.stream()
+				.filter(room -> cursor == null || cursor.precedes(room))
+				.toList();
+			// createdAt 이 같은 방은 RediSearch 정렬 순서가 보장되지 않으므로, 잘렸을 수 있는 마지막 createdAt 묶음은 제외
+			if (!exhausted) {
+				LocalDateTime boundary = fetched.get(fetched.size() - 1).getCreatedAt();
+				rooms = rooms.stream()
+					.filter(room -> !room.getCreatedAt().equals(boundary))
+					.toList();
+			}
+
+			if (exhausted || rooms.size() >= size) {
+				List<Room> content = rooms.stream()
+					.sorted(LATEST_FIRST)
+					.limit(size)
+					.toList();
+				boolean hasNext = !exhausted || rooms.size() > size;
+				return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+			}
+			limit *= 2;                                                           // 같은 createdAt 을 가진 방이 많으면 범위를 넓혀 다시 조회
+		}
+	}
+
+	// 문서 전체를 다시 저장하면 동시에 반영된 입장, 퇴장 인원 수를 덮어쓰므로 제목 필드만 갱신
+	@Override
+	public void updateTitle(String roomCode, String title) {
+		Boolean updated = redisTemplate.execute(changeRoomTitleScript, List.of("room:" + roomCode), title);
+		if (!Boolean.TRUE.equals(updated)) {
+			throw new RoomNoExistenceException();
+		}
+	}
+
 }
@@ -0,0 +1,293 @@
+package site.youtogether.room.infrastructure;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import site.youtogether.room.application.RoomChangedEvent;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
+import site.youtogether.room.dto.RoomTitleSuggestion;
+
+/**
+ * in-memory n-gram index over room titles for autocomplete
+ * titles are matched on decomposed hangul jamo so that a syllable still being typed matches
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomTitleIndex {
+
+	private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+	private static final String[] JUNGSEONG = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ",
+		"ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+	private static final String[] JONGSEONG = {"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ",
+		"ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+	private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+		Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+		Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+		Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+	private static final Comparator<Match> MATCH_ORDER = Comparator.<Match>comparingInt(match -> match.rank)
+		.thenComparingInt(match -> match.position)
+		.thenComparingInt(match -> match.entry.title.length())
+		.thenComparing(match -> match.entry.title);
+	private static final char HANGUL_BEGIN = '가';
+	private static final char HANGUL_END = '힣';
+
+	private final RoomStorage roomStorage;
+	private final Object rebuildLock = new Object();
+
+	private Index index = new Index();
+	private Map<String, String> pendingChanges;                         // 재색인 도중 들어온 변경, 제거된 방은 null
+
+	public synchronized void put(String roomCode, String title) {
+		index.put(roomCode, title);
+		if (pendingChanges != null) {
+			pendingChanges.put(roomCode, title);
+		}
+	}
+
+	public synchronized void remove(String roomCode) {
+		index.remove(roomCode);
+		if (pendingChanges != null) {
+			pendingChanges.put(roomCode, null);
+		}
+	}
+
+	/**
+	 * returns at most size rooms whose title contains keyword, most relevant first
+	 */
+	public synchronized List<RoomTitleSuggestion> suggest(String keyword, int size) {
+		return index.suggest(keyword, size);
+	}
+
+	// 다른 서버에서 생성, 변경된 방도 반영되도록 주기적으로 전체를 다시 색인
+	// 새 색인은 락 밖에서 만들고, 그 사이 들어온 변경을 다시 적용한 뒤 교체한다
+	@Scheduled(fixedDelay = 60_000)
+	public void rebuild() {
+		synchronized (rebuildLock) {
+			synchronized (this) {
+				pendingChanges = new HashMap<>();
+			}
+
+			Index rebuilt = new Index();
+			try {
+				roomStorage.findAll().forEach(room -> rebuilt.put(room.getCode(), room.getTitle()));
+			} catch (RuntimeException e) {
+				synchronized (this) {
+					pendingChanges = null;
+				}
+				throw e;
+			}
+
+			synchronized (this) {
+				pendingChanges.forEach((roomCode, title) -> {
+					if (title == null) {
+						rebuilt.remove(roomCode);
+					} else {
+						rebuilt.put(roomCode, title);
+					}
+				});
+				index = rebuilt;
+				pendingChanges = null;
+			}
+		}
+	}
+
+	@EventListener
+	public void handleRoomChanged(RoomChangedEvent event) {
+		if (event.getChangeType() == ChangeType.CLOSED) {
+			remove(event.getRoomCode());
+		}
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	private static Set<String> grams(String text) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i < text.length(); i++) {
+			if (!Character.isWhitespace(text.charAt(i))) {
+				grams.add(text.substring(i, i + 1));
+				grams.add(initialOf(text.charAt(i)));
+			}
+		}
+		grams.addAll(bigrams(text));
+		return grams;
+	}
+
+	private static Set<String> bigrams(String text) {
+		Set<String> bigrams = new LinkedHashSet<>();
+		for (int i = 0; i + 2 <= text.length(); i++) {
+			String bigram = text.substring(i, i + 2);
+			if (!bigram.isBlank()) {
+				bigrams.add(bigram);
+			}
+		}
+		return bigrams;
+	}
+
+	// 분해했을 때의 첫 자모, 한글이 아니면 글자 그대로 ("황" -> "ㅎ", "ㄳ" -> "ㄱ")
+	private static String initialOf(char c) {
+		return decompose(String.valueOf(c), new BitSet()).substring(0, 1);
+	}
+
+	// 완성형 한글을 초성, 중성, 종성으로 분해하고 겹모음, 겹받침도 입력 순서대로 나눈다 ("황" -> "ㅎㅗㅏㅇ")
+	// charStarts 에는 원래 글자가 시작하는 위치를 기록
+	private static String decompose(String text, BitSet charStarts) {
+		StringBuilder sb = new StringBuilder(text.length() * 3);
+		for (char c : text.toCharArray()) {
+			charStarts.set(sb.length());
+			if (c < HANGUL_BEGIN || c > HANGUL_END) {
+				sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+				continue;
+			}
+			int offset = c - HANGUL_BEGIN;
+			sb.append(CHOSEONG[offset / 588])
+				.append(JUNGSEONG[offset % 588 / 28])
+				.append(JONGSEONG[offset % 28]);
+		}
+		return sb.toString();
+	}
+
+	private static class Index {
+
+		private final Map<String, Entry> entries = new HashMap<>();
+		private final Map<String, Set<String>> postings = new HashMap<>();   // 1, 2-gram, 글자의 첫 자모 -> roomCode
+
+		private void put(String roomCode, String title) {
+			remove(roomCode);
+
+			BitSet charStarts = new BitSet();
+			Entry entry = new Entry(roomCode, title, decompose(normalize(title), charStarts), charStarts);
+			entries.put(roomCode, entry);
+			for (String gram : grams(normalize(title))) {
+				postings.computeIfAbsent(gram, key -> new HashSet<>()).add(roomCode);
+			}
+		}
+
+		private void remove(String roomCode) {
+			Entry entry = entries.remove(roomCode);
+			if (entry == null) {
+				return;
+			}
+			for (String gram : grams(normalize(entry.title))) {
+				Set<String> posting = postings.get(gram);
+				posting.remove(roomCode);
+				if (posting.isEmpty()) {
+					postings.remove(gram);
+				}
+			}
+		}
+
+		private List<RoomTitleSuggestion> suggest(String keyword, int size) {
+			String query = normalize(keyword);
+			if (query.isEmpty()) {
+				return new ArrayList<>();
+			}
+
+			String decomposedQuery = decompose(query, new BitSet());
+			PriorityQueue<Match> topMatches = new PriorityQueue<>(MATCH_ORDER.reversed());   // 상위 size 개만 유지
+			for (String roomCode : candidates(query)) {
+				Entry entry = entries.get(roomCode);
+				int position = entry.indexOf(decomposedQuery);
+				if (position < 0) {
+					continue;
+				}
+				topMatches.add(new Match(entry, position));
+				if (topMatches.size() > size) {
+					topMatches.poll();
+				}
+			}
+
+			return topMatches.stream()
+				.sorted(MATCH_ORDER)
+				.map(match -> new RoomTitleSuggestion(match.entry.roomCode, match.entry.title))
+				.toList();
+		}
+
+		// 마지막 글자는 입력 중인 음절일 수 있으므로 그 앞까지만 n-gram 후보 검색에 사용
+		// 한 글자 검색은 그 글자의 첫 자모로 시작하는 글자가 있는 제목만 후보로 사용 ("화" -> "ㅎ")
+		private Collection<String> candidates(String query) {
+			String stem = query.substring(0, query.length() - 1);
+			if (stem.isBlank()) {
+				return postings.getOrDefault(initialOf(query.charAt(query.length() - 1)), Set.of());
+			}
+
+			Set<String> grams = stem.length() == 1 ? Set.of(stem) : bigrams(stem);
+			List<Set<String>> lists = new ArrayList<>();
+			for (String gram : grams) {
+				Set<String> posting = postings.get(gram);
+				if (posting == null) {
+					return Set.of();
+				}
+				lists.add(posting);
+			}
+			if (lists.size() == 1) {
+				return lists.get(0);
+			}
+			lists.sort(Comparator.comparingInt(Set::size));
+
+			Set<String> candidates = new HashSet<>(lists.get(0));
+			lists.subList(1, lists.size()).forEach(candidates::retainAll);
+			return candidates;
+		}
+
+	}
+
+	@AllArgsConstructor
+	private static class Entry {
+
+		private final String roomCode;
+		private final String title;
+		private final String decomposedTitle;
+		private final BitSet charStarts;
+
+		// 음절 중간(예: 받침)에서 시작하는 일치는 제외
+		private int indexOf(String decomposedQuery) {
+			int position = decomposedTitle.indexOf(decomposedQuery);
+			while (position >= 0 && !charStarts.get(position)) {
+				position = decomposedTitle.indexOf(decomposedQuery, position + 1);
+			}
+			return position;
+		}
+
+	}
+
+	private static class Match {
+
+		private final Entry entry;
+		private final int position;
+		private final int rank;
+
+		private Match(Entry entry, int position) {
+			this.entry = entry;
+			this.position = position;
+			this.rank = rank(entry, position);
+		}
+
+		// 제목 시작 일치 > 단어 시작 일치 > 중간 일치
+		private static int rank(Entry entry, int position) {
+			if (position == 0) {
+				return 0;
+			}
+			return entry.decomposedTitle.charAt(position - 1) == ' ' ? 1 : 2;
+		}
+
+	}
+
+}
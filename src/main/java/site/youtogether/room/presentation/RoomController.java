@@ -7,6 +7,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,10 +20,13 @@ import lombok.RequiredArgsConstructor;
 import site.youtogether.room.application.RoomService;
 import site.youtogether.room.dto.ChangedRoomTitle;
 import site.youtogether.room.dto.NewRoom;
+import site.youtogether.room.dto.ParticipantList;
 import site.youtogether.room.dto.PasswordInput;
 import site.youtogether.room.dto.RoomDetail;
 import site.youtogether.room.dto.RoomList;
+import site.youtogether.room.dto.RoomSearchCondition;
 import site.youtogether.room.dto.RoomSettings;
+import site.youtogether.room.dto.RoomTitleSuggestionList;
 import site.youtogether.room.dto.TitleInput;
 import site.youtogether.util.api.ApiResponse;
 import site.youtogether.util.api.ResponseResult;
@@ -35,13 +39,32 @@ public class RoomController {
 	private final RoomService roomService;
 
 	@GetMapping("/rooms")
-	public ResponseEntity<ApiResponse<RoomList>> fetchRoomList(@PageableDefault Pageable pageable, @RequestParam(required = false) String keyword) {
-		RoomList roomList = roomService.fetchAll(pageable, keyword);
+	public ResponseEntity<ApiResponse<RoomList>> fetchRoomList(@PageableDefault Pageable pageable, @ModelAttribute RoomSearchCondition condition,
+		@RequestParam(required = false) String cursor) {
+		RoomList roomList = roomService.fetchAll(pageable, condition, cursor);
 
 		return ResponseEntity.ok()
 			.body(ApiResponse.ok(ResponseResult.ROOM_LIST_FETCH_SUCCESS, roomList));
 	}
 
+	@GetMapping("/rooms/suggestions")
+	public ResponseEntity<ApiResponse<RoomTitleSuggestionList>> suggestRoomTitles(@RequestParam String keyword,
+		@RequestParam(defaultValue = "10") int size) {
+		RoomTitleSuggestionList suggestions = roomService.suggestTitles(keyword, size);
+
+		return ResponseEntity.ok()
+			.body(ApiResponse.ok(ResponseResult.ROOM_TITLE_SUGGESTION_SUCCESS, suggestions));
+	}
+
+	@GetMapping("/rooms/participants")
+	public ResponseEntity<ApiResponse<ParticipantList>> fetchParticipants(@UserTracking Long userId, @RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "50") int size) {
+		ParticipantList participantList = roomService.fetchParticipants(userId, page, size);
+
+		return ResponseEntity.ok()
+			.body(ApiResponse.ok(ResponseResult.ROOM_PARTICIPANT_FETCH_SUCCESS, participantList));
+	}
+
 	@PostMapping("/rooms")
 	public ResponseEntity<ApiResponse<NewRoom>> createRoom(@UserTracking Long userId, @Valid @RequestBody RoomSettings roomSettings) {
 		NewRoom newRoom = roomService.create(userId, roomSettings, LocalDateTime.now());
@@ -1,7 +1,5 @@
 package site.youtogether.user;
 
-import static site.youtogether.util.AppConstants.*;
-
 import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
@@ -105,20 +103,6 @@ public class User {
 		targetUser.changeRole(newUserRole);
 	}
 
-	public void enterRoom(String roomCode) {
-		if (isFirstTimeEntering(roomCode)) {
-			history.put(roomCode, Role.GUEST);
-			if (roomCodeQueue.size() >= USER_HISTORY_LENGTH) {
-				removeOldestRoomCode();
-			}
-		} else {
-			roomCodeQueue.remove(roomCode);
-		}
-		roomCodeQueue.offer(roomCode);
-		currentRoomCode = roomCode;
-		activate = true;
-	}
-
 	public void createRoom(String createRoomCode) {
 		history.put(createRoomCode, Role.HOST);
 	}
@@ -127,8 +111,12 @@ public class User {
 		return getRoleInCurrentRoom().isLowerThan(Role.EDITOR);
 	}
 
-	public void leaveRoom() {
-		currentRoomCode = null;
+	// 로컬 캐시에 보관한 인스턴스가 요청 중에 변경되지 않도록 복사본을 사용
+	public User copy() {
+		User user = new User(id, nickname, currentRoomCode, activate);
+		user.history = history == null ? null : new HashMap<>(history);
+		user.roomCodeQueue = roomCodeQueue == null ? null : new ArrayDeque<>(roomCodeQueue);
+		return user;
 	}
 
 	public Role getRoleInCurrentRoom() {
@@ -140,15 +128,6 @@ public class User {
 		return role.isLowerThan(compareRole);
 	}
 
-	private boolean isFirstTimeEntering(String roomCode) {
-		return !history.containsKey(roomCode);
-	}
-
-	private void removeOldestRoomCode() {
-		String deletedRoomCode = roomCodeQueue.poll();
-		history.remove(deletedRoomCode);
-	}
-
 	private boolean isInSameRoom(User user, User targetUser) {
 		return user.getCurrentRoomCode().equals(targetUser.getCurrentRoomCode());
 	}
@@ -3,36 +3,37 @@ package site.youtogether.user.application;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
-import site.youtogether.exception.user.UserNoExistenceException;
-import site.youtogether.message.AlarmMessage;
 import site.youtogether.message.application.MessageService;
+import site.youtogether.message.application.ParticipantBroadcaster;
 import site.youtogether.room.Participant;
+import site.youtogether.room.infrastructure.RoomMemberStorage;
 import site.youtogether.user.User;
 import site.youtogether.user.dto.NicknameDuplicationFlag;
 import site.youtogether.user.dto.UserRoleChangeForm;
 import site.youtogether.user.infrastructure.UniqueNicknameStorage;
-import site.youtogether.user.infrastructure.UserStorage;
-import site.youtogether.util.RandomUtil;
+import site.youtogether.user.infrastructure.UserContext;
 import site.youtogether.util.aop.UserSynchronize;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-	private final UserStorage userStorage;
+	private final UserContext userContext;
 	private final MessageService messageService;
+	private final ParticipantBroadcaster participantBroadcaster;
 	private final UniqueNicknameStorage uniqueNicknameStorage;
+	private final RoomMemberStorage roomMemberStorage;
 
 	public Participant changeUserNickname(Long userId, String newNickname) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 
 		uniqueNicknameStorage.update(user.getNickname(), newNickname);
 		user.changeNickname(newNickname);
-		userStorage.save(user);
+		userContext.save(user);
 
 		if (user.isParticipant()) {
-			messageService.sendParticipants(user.getCurrentRoomCode());
+			roomMemberStorage.update(user.getCurrentRoomCode(), new Participant(user));
+			participantBroadcaster.nicknameChanged(user.getCurrentRoomCode(), new Participant(user));
 		}
 
 		return new Participant(user);
@@ -40,17 +41,16 @@ public class UserService {
 
 	@UserSynchronize
 	public Participant changeUserRole(Long userId, UserRoleChangeForm form) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
-		User targetUser = userStorage.findById(form.getTargetUserId())
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
+		userContext.evict(form.getTargetUserId());                                      // 락을 잡은 뒤의 상태로 역할을 변경하도록 다시 읽는다
+		User targetUser = userContext.get(form.getTargetUserId());
 		user.changeOtherUserRole(targetUser, form.getNewUserRole());
-		userStorage.save(targetUser);
+		userContext.save(targetUser);
+		roomMemberStorage.update(user.getCurrentRoomCode(), new Participant(targetUser));
 
-		messageService.sendParticipants(user.getCurrentRoomCode());
-		messageService.sendAlarm(
-			new AlarmMessage(RandomUtil.generateChatId(), user.getCurrentRoomCode(),
-				targetUser.getNickname() + "님의 역할이 " + form.getNewUserRole().name() + "(으)로 변경되었습니다."));
+		participantBroadcaster.roleChanged(user.getCurrentRoomCode(), new Participant(targetUser));
+		messageService.sendAlarm(user.getCurrentRoomCode(),
+			targetUser.getNickname() + "님의 역할이 " + form.getNewUserRole().name() + "(으)로 변경되었습니다.");
 
 		return new Participant(targetUser);
 	}
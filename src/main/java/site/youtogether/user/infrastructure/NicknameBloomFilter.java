@@ -0,0 +1,72 @@
+package site.youtogether.user.infrastructure;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * thread safe bloom filter over nicknames
+ * mightContain never returns false for a nickname that was put
+ */
+public class NicknameBloomFilter {
+
+	private final AtomicLongArray words;
+	private final int bitSize;
+	private final int hashCount;
+
+	public NicknameBloomFilter(int expectedInsertions, double falsePositiveRate) {
+		double ln2 = Math.log(2);
+		long bits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+
+		this.bitSize = (int)Math.min(Integer.MAX_VALUE - 63, Math.max(Long.SIZE, bits));
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * ln2));
+		this.words = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	public void put(String nickname) {
+		long hash = hash(nickname);
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			int index = index(hash1 + i * hash2);
+			long mask = 1L << index;
+			if ((words.get(index >>> 6) & mask) == 0) {
+				words.getAndAccumulate(index >>> 6, mask, (word, bit) -> word | bit);
+			}
+		}
+	}
+
+	public boolean mightContain(String nickname) {
+		long hash = hash(nickname);
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			int index = index(hash1 + i * hash2);
+			if ((words.get(index >>> 6) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int index(int combinedHash) {
+		return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitSize;
+	}
+
+	// FNV-1a 로 누적한 뒤 murmur3 finalizer 로 섞어서 상위, 하위 32비트를 서로 다른 해시로 사용 (double hashing)
+	private static long hash(String nickname) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < nickname.length(); i++) {
+			hash ^= nickname.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
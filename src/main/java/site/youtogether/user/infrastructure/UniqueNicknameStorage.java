@@ -1,29 +1,85 @@
 package site.youtogether.user.infrastructure;
 
 import static site.youtogether.util.AppConstants.*;
+import static site.youtogether.util.RandomUtil.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import site.youtogether.exception.user.UserNicknameDuplicateException;
+import site.youtogether.exception.user.UserNicknameExhaustedException;
 
+/**
+ * the set of nicknames in use, with a local bloom filter in front of it
+ * nicknames added on any node are spread to every node's filter through the nickname channel
+ */
 @Repository
 @RequiredArgsConstructor
-public class UniqueNicknameStorage {
+public class UniqueNicknameStorage implements MessageListener {
+
+	private static final int RESERVE_PROBE_COUNT = 1000;
+	private static final int RESERVE_STRIDE = 7919;                       // 닉네임 수(20 * 10000)와 서로소인 소수, 연속으로 사용된 구간을 건너뛰며 탐색
+	private static final int FILTER_EXPECTED_NICKNAMES = 500_000;
+	private static final double FILTER_FALSE_POSITIVE_RATE = 0.01;
+	private static final int FILTER_SCAN_COUNT = 1000;
 
 	private final StringRedisTemplate redisTemplate;
 	private final RedisScript<Boolean> updateUniqueNicknameScript;
+	private final RedisScript<String> reserveNicknameScript;
+	private final MeterRegistry meterRegistry;
+
+	private volatile NicknameBloomFilter nicknameFilter = newFilter();
+	private volatile NicknameBloomFilter rebuildingFilter;
 
+	/**
+	 * nicknames the local filter has never seen are answered without a round trip
+	 */
 	public boolean exist(String nickname) {
+		if (!nicknameFilter.mightContain(nickname)) {
+			meterRegistry.counter("nickname.checks", "result", "filtered").increment();
+			return false;
+		}
+
+		meterRegistry.counter("nickname.checks", "result", "redis").increment();
 		return redisTemplate.opsForSet().isMember(USER_NICKNAME_SET, nickname);
 	}
 
 	public void save(String nickname) {
 		redisTemplate.opsForSet().add(USER_NICKNAME_SET, nickname);
+		publishAdded(nickname);
+	}
+
+	/**
+	 * reserves a random free nickname in a single round trip
+	 */
+	public String reserve() {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(generateUserNicknameIndex()));
+		args.add(String.valueOf(RESERVE_PROBE_COUNT));
+		args.add(String.valueOf(RESERVE_STRIDE));
+		args.add(String.valueOf(USER_NICKNAME_SUFFIX_BOUND));
+		args.addAll(USER_NICKNAME_PREFIXES);
+
+		String nickname = redisTemplate.execute(reserveNicknameScript, List.of(USER_NICKNAME_SET), args.toArray());
+		if (nickname == null) {
+			throw new UserNicknameExhaustedException();
+		}
+		publishAdded(nickname);
+		return nickname;
 	}
 
 	public void update(String oldNickname, String newNickname) {
@@ -32,10 +88,51 @@ public class UniqueNicknameStorage {
 		if (!updateResult) {
 			throw new UserNicknameDuplicateException();
 		}
+		publishAdded(newNickname);                                            // 이전 닉네임은 필터에서 지울 수 없으므로 다음 재구성 때 빠진다
 	}
 
 	public void delete() {
 		redisTemplate.delete(USER_NICKNAME_SET);
+		nicknameFilter = newFilter();
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		addToFilter(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	// 채널 메시지는 연결이 끊긴 동안 유실될 수 있으므로 주기적으로 새로 만들어 보충하고, 정리되어 빠진 닉네임도 필터에서 제거한다
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelay = 60_000)
+	public synchronized void rebuildFilter() {
+		NicknameBloomFilter filter = newFilter();
+		rebuildingFilter = filter;                                            // 재구성 중에 추가되는 닉네임도 새 필터에 넣는다
+		try (Cursor<String> cursor = redisTemplate.opsForSet()
+			.scan(USER_NICKNAME_SET, ScanOptions.scanOptions().count(FILTER_SCAN_COUNT).build())) {
+			cursor.forEachRemaining(filter::put);
+			nicknameFilter = filter;
+		} finally {
+			rebuildingFilter = null;
+		}
+	}
+
+	// 다른 서버의 필터에 없으면 그 서버는 사용 중인 닉네임을 사용 가능으로 응답하므로 바로 알린다
+	private void publishAdded(String nickname) {
+		addToFilter(nickname);
+		redisTemplate.convertAndSend(NICKNAME_ADDED_CHANNEL, nickname);
+	}
+
+	// 재구성 중인 필터를 먼저 읽어야 교체 직후에 추가된 닉네임이 빠지지 않는다
+	private void addToFilter(String nickname) {
+		NicknameBloomFilter rebuilding = rebuildingFilter;
+		nicknameFilter.put(nickname);
+		if (rebuilding != null) {
+			rebuilding.put(nickname);
+		}
+	}
+
+	private static NicknameBloomFilter newFilter() {
+		return new NicknameBloomFilter(FILTER_EXPECTED_NICKNAMES, FILTER_FALSE_POSITIVE_RATE);
 	}
 
 }
@@ -0,0 +1,76 @@
+package site.youtogether.user.infrastructure;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import site.youtogether.exception.user.UserNoExistenceException;
+import site.youtogether.user.User;
+
+/**
+ * users loaded during one HTTP request or STOMP message, so that interceptors, aspects and services share a single read
+ * outside of an open scope every call goes to the storage, or to the near cache when it is enabled
+ */
+@Component
+@RequiredArgsConstructor
+public class UserContext {
+
+	private static final ThreadLocal<Map<Long, User>> USERS = new ThreadLocal<>();
+
+	private final UserStorage userStorage;
+	private final Optional<UserNearCache> userNearCache;
+
+	public void open() {
+		USERS.set(new HashMap<>());
+	}
+
+	public void close() {
+		USERS.remove();
+	}
+
+	public User get(Long userId) {
+		Map<Long, User> users = USERS.get();
+		if (users == null) {
+			return load(userId);
+		}
+
+		User user = users.get(userId);
+		if (user == null) {
+			user = load(userId);
+			users.put(userId, user);
+		}
+		return user;
+	}
+
+	// 저장과 동시에 컨텍스트도 갱신
+	public void save(User user) {
+		userStorage.save(user);
+		userNearCache.ifPresent(cache -> cache.invalidate(user.getId()));
+
+		Map<Long, User> users = USERS.get();
+		if (users != null) {
+			users.put(user.getId(), user);
+		}
+	}
+
+	// 스크립트처럼 저장소를 직접 변경한 뒤에는 다시 읽도록 버린다
+	public void evict(Long userId) {
+		userNearCache.ifPresent(cache -> cache.invalidate(userId));
+
+		Map<Long, User> users = USERS.get();
+		if (users != null) {
+			users.remove(userId);
+		}
+	}
+
+	private User load(Long userId) {
+		Optional<User> user = userNearCache.isPresent()
+			? userNearCache.get().get(userId, () -> userStorage.findById(userId))
+			: userStorage.findById(userId);
+		return user.orElseThrow(UserNoExistenceException::new);
+	}
+
+}
@@ -0,0 +1,115 @@
+package site.youtogether.user.infrastructure;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.youtogether.config.property.UserProperties;
+import site.youtogether.user.User;
+
+/**
+ * local cache of user documents in front of UserStorage
+ * a changed user is invalidated on every node through the user invalidation channel
+ */
+@Component
+@ConditionalOnProperty(prefix = "user.near-cache", name = "enabled", havingValue = "true")
+public class UserNearCache implements MessageListener {
+
+	private final StringRedisTemplate redisTemplate;
+	private final long ttlMillis;
+	private final int maxSize;
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public UserNearCache(StringRedisTemplate redisTemplate, UserProperties userProperties) {
+		this.redisTemplate = redisTemplate;
+		this.ttlMillis = userProperties.getNearCache().getTtl().toMillis();
+		this.maxSize = userProperties.getNearCache().getSize();
+	}
+
+	public Optional<User> get(Long userId, Supplier<Optional<User>> loader) {
+		long now = System.currentTimeMillis();
+		Entry entry = entries.get(userId);
+		if (entry != null && entry.isAlive(now)) {
+			return Optional.of(entry.user.copy());
+		}
+
+		long version = invalidations.get();
+		Optional<User> user = loader.get();
+		user.ifPresent(loadedUser -> put(userId, loadedUser.copy(), version, now));
+		return user;
+	}
+
+	/**
+	 * drops the user on this node and tells the other nodes to drop it
+	 */
+	public void invalidate(Long userId) {
+		evict(userId);
+		redisTemplate.convertAndSend(USER_INVALIDATION_CHANNEL, String.valueOf(userId));
+	}
+
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		entries.clear();
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+	}
+
+	@Scheduled(fixedDelay = 60_000)
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		entries.values().removeIf(entry -> !entry.isAlive(now));
+	}
+
+	private void evict(Long userId) {
+		invalidations.incrementAndGet();
+		entries.remove(userId);
+	}
+
+	// 조회하는 동안 무효화가 있었다면 읽은 값이 이미 오래된 것일 수 있으므로 보관하지 않는다
+	private void put(Long userId, User user, long version, long now) {
+		if (entries.size() >= maxSize) {
+			evictExpired();
+			if (entries.size() >= maxSize) {
+				return;
+			}
+		}
+
+		entries.put(userId, new Entry(user, now + ttlMillis));
+		if (invalidations.get() != version) {
+			entries.remove(userId);
+		}
+	}
+
+	private static class Entry {
+
+		private final User user;
+		private final long expiresAt;
+
+		private Entry(User user, long expiresAt) {
+			this.user = user;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isAlive(long now) {
+			return now < expiresAt;
+		}
+
+	}
+
+}
@@ -8,11 +8,28 @@ public final class AppConstants {
 
 	public static final int ROOM_CODE_LENGTH = 10;
 	public static final int USER_HISTORY_LENGTH = 10;
+	public static final int CHAT_HISTORY_LENGTH = 100;
+	public static final int CHAT_HISTORY_PAGE_SIZE = 30;
+	public static final int CHAT_SEARCH_INDEX_LENGTH = 1000;
+	public static final int PARTICIPANT_PAGE_LENGTH = 100;
 	public static final String STOMP_ENDPOINT = "/stomp";
 	public static final String USER_ID = "userId";
 	public static final String ROOM_CODE = "roomCode";
 	public static final String CHAT_PREFIX = "chat:";
+	public static final String CHAT_ID_SEQUENCE = "chatIdSequence";
+	public static final String NOW_PLAYING_PREFIX = "nowplaying:";
+	public static final String PARTICIPANT_COUNT_PREFIX = "participants:";
+	public static final String DIRTY_ROOM_SET = "dirtyRooms";
+	public static final String ROOM_MEMBER_PREFIX = "members:";
+	public static final String ROOM_PRIVILEGED_MEMBER_PREFIX = "privileged:";
+	public static final String ROOM_MEMBER_ORDER_PREFIX = "memberorder:";
 	public static final String USER_NICKNAME_SET = "userNicknames";
+	public static final String USER_INVALIDATION_CHANNEL = "userInvalidation";
+	public static final String NICKNAME_ADDED_CHANNEL = "nicknameAdded";
+	public static final String CHAT_APPENDED_CHANNEL_PREFIX = "chatAppended:";
 	public static final String SUBSCRIBE_PATH = "/sub/messages/rooms/";
+	public static final String LOBBY_PATH = "/sub/lobby";
+	public static final String VIDEO_ACK_PATH = "/sub/messages/video-ack";
+	public static final String PARTICIPANTS_PATH = "/sub/messages/participants";
 
 }
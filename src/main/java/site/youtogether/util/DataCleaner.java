@@ -3,14 +3,23 @@ package site.youtogether.util;
 import static site.youtogether.util.AppConstants.*;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import site.youtogether.jwt.VerifiedTokenCache;
+import site.youtogether.message.infrastructure.ChatArchive;
+import site.youtogether.message.infrastructure.ChatSearchIndex;
 import site.youtogether.playlist.infrastructure.PlayingVideoStorage;
+import site.youtogether.room.application.RoomChangedEvent;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
+import site.youtogether.user.infrastructure.UniqueNicknameStorage;
+import site.youtogether.user.infrastructure.UserNearCache;
 
 @Component
 @RequiredArgsConstructor
@@ -19,6 +28,12 @@ public class DataCleaner {
 	private final DefaultRedisScript<List> batchRemoveScript;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final PlayingVideoStorage playingVideoStorage;
+	private final Optional<ChatArchive> chatArchive;
+	private final ChatSearchIndex chatSearchIndex;
+	private final ApplicationEventPublisher eventPublisher;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final Optional<UserNearCache> userNearCache;
+	private final UniqueNicknameStorage uniqueNicknameStorage;
 
 	@Scheduled(cron = "0 0 6 * * *", zone = "Asia/Seoul")
 	public void clean() {
@@ -28,7 +43,13 @@ public class DataCleaner {
 		for (int i = 1; i < erasedRoomKey.size(); i++) {
 			String erasedRoomCode = erasedRoomKey.get(i).toString().substring("room:".length());
 			playingVideoStorage.delete(erasedRoomCode);
+			chatArchive.ifPresent(archive -> archive.delete(erasedRoomCode));
+			chatSearchIndex.delete(erasedRoomCode);
+			eventPublisher.publishEvent(new RoomChangedEvent(erasedRoomCode, ChangeType.CLOSED));
 		}
+		verifiedTokenCache.invalidateAll();
+		userNearCache.ifPresent(UserNearCache::invalidateAll);
+		uniqueNicknameStorage.rebuildFilter();
 	}
 
 }
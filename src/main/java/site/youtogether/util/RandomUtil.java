@@ -12,17 +12,20 @@ import lombok.NoArgsConstructor;
 public final class RandomUtil {
 
 	private static final AtomicLong userId = new AtomicLong();
-	private static final AtomicLong chatId = new AtomicLong();
 	private static final AtomicLong videoNumber = new AtomicLong();
 
+	public static final List<String> USER_NICKNAME_PREFIXES = List.of(
+		"MysticTiger", "SilverPhoenix", "ElectricWanderer", "CrimsonDragon", "EmeraldSpecter",
+		"MidnightRider", "VelvetWhisperer", "CosmicStrider", "SolarGoddess", "ArcticShadow",
+		"EnigmaticSphinx", "ScarletSorcerer", "CelestialWatcher", "LunarJester", "SapphireDreamer",
+		"GoldenGlider", "CrimsonFalcon", "EchoingWhisper", "EmberPhoenix", "RadiantRebel"
+	);
+	public static final int USER_NICKNAME_SUFFIX_BOUND = 10000;
+
 	public static Long generateUserId() {
 		return userId.incrementAndGet();
 	}
 
-	public static Long generateChatId() {
-		return chatId.incrementAndGet();
-	}
-
 	public static Long generateVideoNumber() {
 		return videoNumber.incrementAndGet();
 	}
@@ -38,21 +41,10 @@ public final class RandomUtil {
 	}
 
 	/**
-	 * generate random user nickname
-	 * sample list size is 20
+	 * random position in the user nickname space (prefix x suffix)
 	 */
-	public static String generateUserNickname() {
-		List<String> samples = List.of(
-			"MysticTiger", "SilverPhoenix", "ElectricWanderer", "CrimsonDragon", "EmeraldSpecter",
-			"MidnightRider", "VelvetWhisperer", "CosmicStrider", "SolarGoddess", "ArcticShadow",
-			"EnigmaticSphinx", "ScarletSorcerer", "CelestialWatcher", "LunarJester", "SapphireDreamer",
-			"GoldenGlider", "CrimsonFalcon", "EchoingWhisper", "EmberPhoenix", "RadiantRebel"
-		);
-
-		int prefixIndex = ThreadLocalRandom.current().nextInt(samples.size());
-		int suffixNumber = ThreadLocalRandom.current().nextInt(1000);
-
-		return samples.get(prefixIndex) + suffixNumber;
+	public static int generateUserNicknameIndex() {
+		return ThreadLocalRandom.current().nextInt(USER_NICKNAME_PREFIXES.size() * USER_NICKNAME_SUFFIX_BOUND);
 	}
 
 }
@@ -1,24 +1,20 @@
 package site.youtogether.util.aop;
 
-import java.util.concurrent.TimeUnit;
-
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import site.youtogether.exception.CustomException;
 import site.youtogether.exception.playlist.PlaylistLockAcquisitionFailureException;
-import site.youtogether.exception.user.UserNoExistenceException;
 import site.youtogether.message.VideoSyncInfoMessage;
 import site.youtogether.playlist.dto.VideoOrder;
 import site.youtogether.user.User;
 import site.youtogether.user.dto.UserRoleChangeForm;
-import site.youtogether.user.infrastructure.UserStorage;
+import site.youtogether.user.infrastructure.UserContext;
+import site.youtogether.util.lock.LockExecutor;
+import site.youtogether.util.lock.LockKey;
 
 @Aspect
 @Component
@@ -26,79 +22,44 @@ import site.youtogether.user.infrastructure.UserStorage;
 @Slf4j
 public class ConcurrencyHandlingAspect {
 
-	private final RedissonClient redissonClient;
-	private final UserStorage userStorage;
-
-	@Around("@annotation(RoomSynchronize) && args(roomCode, ..)")
-	public Object updateRoom(ProceedingJoinPoint joinPoint, String roomCode) {
-		RLock lock = redissonClient.getLock(roomCode);
-		return synchronize(joinPoint, lock);
-	}
+	private static final String USER_SYNCHRONIZE = UserSynchronize.class.getSimpleName();
+	private static final String PLAYLIST_SYNCHRONIZE = PlaylistSynchronize.class.getSimpleName();
+	private static final String VIDEO_SYNCHRONIZE = VideoSynchronize.class.getSimpleName();
 
-	@Around("@annotation(RoomSynchronize) && args(userId, ..)")
-	public Object updateRoom(ProceedingJoinPoint joinPoint, Long userId) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
-
-		RLock lock = redissonClient.getLock(user.getCurrentRoomCode());
-		return synchronize(joinPoint, lock);
-	}
+	private final LockExecutor lockExecutor;
+	private final UserContext userContext;
 
 	@Around("@annotation(UserSynchronize) && args(userId, form)")
 	public Object updateUser(ProceedingJoinPoint joinPoint, Long userId, UserRoleChangeForm form) {
-		RLock lock = redissonClient.getLock(String.valueOf(form.getTargetUserId()));
-		return synchronize(joinPoint, lock);
+		return lockExecutor.execute(USER_SYNCHRONIZE, LockKey.USER, String.valueOf(form.getTargetUserId()), joinPoint::proceed);
 	}
 
-	@Around("@annotation(PlaylistSynchronize) && args(userId, ..)")
+	// 순서 변경은 아래 advice 가 맡으므로 제외해서, 한 번의 호출이 락을 한 번만 얻도록 한다
+	@Around("@annotation(PlaylistSynchronize) && args(userId, ..) && !args(Long, site.youtogether.playlist.dto.VideoOrder)")
 	public void updatePlaylist(ProceedingJoinPoint joinPoint, Long userId) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 
-		RLock lock = redissonClient.getLock("pl-" + user.getCurrentRoomCode());
-		synchronize(joinPoint, lock);
+		lockExecutor.executeInRoom(PLAYLIST_SYNCHRONIZE, LockKey.PLAYLIST, user.getCurrentRoomCode(),
+			() -> proceedWithReloadedUser(joinPoint, userId));
 	}
 
 	@Around("@annotation(PlaylistSynchronize) && args(userId, videoOrder)")
 	public void updatePlaylist(ProceedingJoinPoint joinPoint, Long userId, VideoOrder videoOrder) {
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
-		RLock lock = redissonClient.getLock("pl-" + user.getCurrentRoomCode());
-		try {
-			boolean available = lock.tryLock();                                    // 플레이리스트 업데이트 시엔, 락을 획득하지 못하면 바로 실패 처리
-			if (!available) {
-				throw new PlaylistLockAcquisitionFailureException();
-			}
-			joinPoint.proceed();
-		} catch (CustomException e) {
-			throw e;
-		} catch (Throwable t) {
-			throw new RuntimeException(t);
-		} finally {
-			lock.unlock();
-		}
+		User user = userContext.get(userId);
+
+		lockExecutor.tryExecuteInRoom(PLAYLIST_SYNCHRONIZE, LockKey.PLAYLIST, user.getCurrentRoomCode(),
+			() -> proceedWithReloadedUser(joinPoint, userId), PlaylistLockAcquisitionFailureException::new);                         // 플레이리스트 업데이트 시엔, 락을 획득하지 못하면 바로 실패 처리
 	}
 
-	@Around("@annotation(VideoSynchronize) && args(videoSyncInfoMessage)")
-	public void updateVideo(ProceedingJoinPoint joinPoint, VideoSyncInfoMessage videoSyncInfoMessage) {
-		RLock lock = redissonClient.getLock("video-" + videoSyncInfoMessage.getRoomCode());
-		synchronize(joinPoint, lock);
+	// 락을 기다리는 동안 역할이 바뀌었을 수 있으므로, 락 밖에서 읽은 유저를 버리고 서비스가 락 안에서 다시 읽도록 한다
+	private Object proceedWithReloadedUser(ProceedingJoinPoint joinPoint, Long userId) throws Throwable {
+		userContext.evict(userId);
+		return joinPoint.proceed();
 	}
 
-	private Object synchronize(ProceedingJoinPoint joinPoint, RLock lock) {
-		try {
-			boolean available = lock.tryLock(10, 1, TimeUnit.SECONDS);
-			if (!available) {
-				throw new RuntimeException("Lock 획득 실패");
-			}
-			return joinPoint.proceed();
-		} catch (CustomException e) {
-			throw e;
-		} catch (Throwable t) {
-			throw new RuntimeException(t);
-		} finally {
-			lock.unlock();
-		}
+	@Around("@annotation(VideoSynchronize) && args(videoSyncInfoMessage)")
+	public void updateVideo(ProceedingJoinPoint joinPoint, VideoSyncInfoMessage videoSyncInfoMessage) {
+		lockExecutor.executeInRoom(VIDEO_SYNCHRONIZE, LockKey.VIDEO, videoSyncInfoMessage.getRoomCode(), joinPoint::proceed);
 	}
 
 }
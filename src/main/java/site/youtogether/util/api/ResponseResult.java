@@ -13,6 +13,8 @@ public enum ResponseResult {
 	ROOM_ENTER_SUCCESS("방 입장에 성공했습니다"),
 	ROOM_LIST_FETCH_SUCCESS("방 목록 조회에 성공했습니다"),
 	ROOM_TITLE_CHANGE_SUCCESS("방 제목 변경에 성공했습니다"),
+	ROOM_TITLE_SUGGESTION_SUCCESS("방 제목 자동완성에 성공했습니다"),
+	ROOM_PARTICIPANT_FETCH_SUCCESS("방 참여자 목록 조회에 성공했습니다"),
 
 	// User
 	USER_NICKNAME_CHANGE_SUCCESS("유저 닉네임 변경에 성공했습니다"),
@@ -23,7 +25,11 @@ public enum ResponseResult {
 	PLAYLIST_ADD_SUCCESS("플레이리스트에 비디오 추가를 성공했습니다"),
 	PLAYLIST_DELETE_SUCCESS("플레이리스트의 비디오 삭제를 성공했습니다"),
 	PLAYLIST_REORDER_SUCCESS("플레이리스트의 비디오 순서 변경에 성공했습니다"),
-	PLAY_NEXT_VIDEO_SUCCESS("플레이리스트의 다음 비디오 재생에 성공했습니다");
+	PLAY_NEXT_VIDEO_SUCCESS("플레이리스트의 다음 비디오 재생에 성공했습니다"),
+
+	// Chat
+	CHAT_HISTORY_FETCH_SUCCESS("채팅 기록 조회에 성공했습니다"),
+	CHAT_HISTORY_SEARCH_SUCCESS("채팅 기록 검색에 성공했습니다");
 
 	private final String description;
 
@@ -0,0 +1,95 @@
+package site.youtogether.util.interceptor;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import site.youtogether.config.property.RateLimitProperties;
+import site.youtogether.config.property.RateLimitProperties.Limit;
+import site.youtogether.message.MessageType;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.util.ratelimit.RateLimiter;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageRateLimitInterceptor implements ChannelInterceptor {
+
+	private static final Map<String, MessageType> RATE_LIMITED_DESTINATIONS = Map.of(
+		"/pub/messages/chat", MessageType.CHAT,
+		"/pub/messages/video", MessageType.VIDEO_SYNC_INFO
+	);
+
+	private static final Limit NOTICE_LIMIT = new Limit(1, 1);
+
+	private final RateLimitProperties rateLimitProperties;
+	private final RateLimiter rateLimiter;
+	private final MeterRegistry meterRegistry;
+	private final ObjectProvider<MessageService> messageService;           // 메시지 템플릿이 인바운드 채널 설정에 의존하므로 늦게 가져온다
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (!rateLimitProperties.isEnabled() || accessor == null || accessor.getCommand() != StompCommand.SEND) {
+			return message;
+		}
+
+		MessageType messageType = RATE_LIMITED_DESTINATIONS.get(accessor.getDestination());
+		Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+		if (messageType == null || sessionAttributes == null) {
+			return message;
+		}
+
+		Long userId = (Long)sessionAttributes.get(USER_ID);
+		String roomCode = (String)sessionAttributes.get(ROOM_CODE);
+		String userKey = "user:" + userId + ":" + messageType;
+
+		if (!acquire("user", userKey, rateLimitProperties.getUser().get(messageType), messageType)) {
+			log.debug("--USER {} {} 메시지 전송 제한--", userId, messageType);
+			notifyThrottled(accessor.getSessionId(), messageType);
+			return null;
+		}
+		if (roomCode != null
+			&& !acquire("room", "room:" + roomCode + ":" + messageType, rateLimitProperties.getRoom().get(messageType), messageType)) {
+			log.debug("--ROOM {} {} 메시지 전송 제한--", roomCode, messageType);
+			rateLimiter.refund(userKey);                                       // 방 한도로 버린 프레임은 유저 한도에서 빼지 않는다
+			notifyThrottled(accessor.getSessionId(), messageType);
+			return null;
+		}
+
+		return message;
+	}
+
+	// 영상 조작은 마지막 의도가 버려지면 방과 어긋나므로 보낸 세션에 알려서 다시 보내게 한다, 알림도 세션마다 초당 한 번까지만
+	private void notifyThrottled(String sessionId, MessageType messageType) {
+		if (messageType != MessageType.VIDEO_SYNC_INFO || sessionId == null) {
+			return;
+		}
+		if (rateLimiter.tryAcquire("notice:" + sessionId, NOTICE_LIMIT)) {
+			messageService.getObject().sendThrottled(sessionId, messageType);
+		}
+	}
+
+	// 초과 프레임은 에러 프레임 대신 버린다 (STOMP ERROR는 세션을 종료시킨다)
+	private boolean acquire(String scope, String key, Limit limit, MessageType messageType) {
+		if (limit == null || rateLimiter.tryAcquire(key, limit)) {
+			return true;
+		}
+
+		meterRegistry.counter("stomp.messages.throttled", "scope", scope, "type", messageType.name()).increment();
+		return false;
+	}
+
+}
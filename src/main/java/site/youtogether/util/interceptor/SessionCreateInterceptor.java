@@ -3,6 +3,9 @@ package site.youtogether.util.interceptor;
 import static site.youtogether.util.AppConstants.*;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.springframework.http.HttpHeaders;
@@ -18,8 +21,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import site.youtogether.config.property.CookieProperties;
 import site.youtogether.jwt.JwtService;
+import site.youtogether.jwt.VerifiedToken;
+import site.youtogether.jwt.VerifiedTokenCache;
 import site.youtogether.user.User;
 import site.youtogether.user.infrastructure.UniqueNicknameStorage;
+import site.youtogether.user.infrastructure.UserContext;
 import site.youtogether.user.infrastructure.UserStorage;
 import site.youtogether.util.RandomUtil;
 
@@ -30,7 +36,9 @@ public class SessionCreateInterceptor implements HandlerInterceptor {
 
 	private final CookieProperties cookieProperties;
 	private final UserStorage userStorage;
+	private final UserContext userContext;
 	private final JwtService jwtService;
+	private final VerifiedTokenCache verifiedTokenCache;
 	private final UniqueNicknameStorage uniqueNicknameStorage;
 
 	@Override
@@ -41,8 +49,8 @@ public class SessionCreateInterceptor implements HandlerInterceptor {
 		Stream<Cookie> cookieStream = request.getCookies() == null ? Stream.empty() : Stream.of(request.getCookies());
 		Long userId = cookieStream
 			.filter(cookie -> cookie.getName().equals(cookieProperties.getName()))
-			.map(cookie -> jwtService.parse(cookie.getValue()))
-			.filter(uid -> userStorage.existsById(uid))
+			.map(cookie -> verifiedTokenCache.verify(cookie.getValue(), this::verify))
+			.filter(Objects::nonNull)
 			.findAny()
 			.orElseGet(() -> generateSession(request, response));
 
@@ -51,16 +59,24 @@ public class SessionCreateInterceptor implements HandlerInterceptor {
 		return true;
 	}
 
+	// 서명, 만료를 확인하고 유저가 아직 남아있는지 확인한다
+	private VerifiedToken verify(String token) {
+		VerifiedToken verifiedToken = jwtService.parseSession(token);
+		if (verifiedToken == null || !userStorage.existsById(verifiedToken.getUserId())) {
+			return null;
+		}
+		return verifiedToken;
+	}
+
 	private Long generateSession(HttpServletRequest request, HttpServletResponse response) {
 		Long userId = RandomUtil.generateUserId();
-		String newToken = jwtService.issue(userId, Duration.ofSeconds(cookieProperties.getExpiry()));
+		Duration expiry = Duration.ofSeconds(cookieProperties.getExpiry());
+		long expiresAt = Instant.now().plus(expiry).truncatedTo(ChronoUnit.SECONDS).toEpochMilli();     // exp 는 초 단위로 내려서 저장된다
+		String newToken = jwtService.issue(userId, expiry);
 		request.setAttribute(USER_ID, userId);
 		generateCookie(response, newToken);
 
-		String randomNickname = RandomUtil.generateUserNickname();
-		while (uniqueNicknameStorage.exist(randomNickname)) {
-			randomNickname = RandomUtil.generateUserNickname();
-		}
+		String randomNickname = uniqueNicknameStorage.reserve();
 
 		User user = User.builder()
 			.id(userId)
@@ -68,8 +84,8 @@ public class SessionCreateInterceptor implements HandlerInterceptor {
 			.currentRoomCode(null)
 			.activate(true)
 			.build();
-		userStorage.save(user);
-		uniqueNicknameStorage.save(randomNickname);
+		userContext.save(user);
+		verifiedTokenCache.put(newToken, new VerifiedToken(userId, expiresAt));
 
 		return userId;
 	}
@@ -12,16 +12,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import site.youtogether.exception.room.SingleRoomParticipationViolationException;
-import site.youtogether.exception.user.UserNoExistenceException;
 import site.youtogether.user.User;
-import site.youtogether.user.infrastructure.UserStorage;
+import site.youtogether.user.infrastructure.UserContext;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SingleRoomCheckInterceptor implements HandlerInterceptor {
 
-	private final UserStorage userStorage;
+	private final UserContext userContext;
 
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -34,8 +33,7 @@ public class SingleRoomCheckInterceptor implements HandlerInterceptor {
 		}
 
 		Long userId = (Long)request.getAttribute(USER_ID);
-		User user = userStorage.findById(userId)
-			.orElseThrow(UserNoExistenceException::new);
+		User user = userContext.get(userId);
 
 		if (user.isParticipant()) {
 			log.info("--USER ID {} - {} 방 입장 인터셉터에서 실패함--", userId, request.getRequestURI());
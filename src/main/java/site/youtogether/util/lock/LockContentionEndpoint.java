@@ -0,0 +1,29 @@
+package site.youtogether.util.lock;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/lockcontention, rooms that waited the longest for playlist and video locks in the last one to two minutes
+ */
+@Component
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+	private static final int DEFAULT_SIZE = 10;
+
+	private final LockContentionTracker lockContentionTracker;
+
+	@ReadOperation
+	public List<RoomContention> topContendedRooms(@Nullable Integer size) {
+		return lockContentionTracker.findTopContended(size == null ? DEFAULT_SIZE : size);
+	}
+
+}
@@ -0,0 +1,97 @@
+package site.youtogether.util.lock;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * per room totals of contended room lock acquisitions, over the current and the previous minute
+ * only acquisitions that waited, or failed, are tracked so that idle rooms take no memory
+ */
+@Component
+public class LockContentionTracker {
+
+	private static final long CONTENDED_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final int MAX_TRACKED_ROOMS = 10_000;
+
+	private volatile Map<String, Contention> current = new ConcurrentHashMap<>();
+	private volatile Map<String, Contention> previous = Map.of();
+
+	public void record(String roomCode, long waitNanos, boolean failed) {
+		if (!failed && waitNanos < CONTENDED_WAIT_NANOS) {
+			return;
+		}
+
+		Map<String, Contention> window = current;
+		Contention contention = window.get(roomCode);
+		if (contention == null) {
+			if (window.size() >= MAX_TRACKED_ROOMS) {                           // 가득 차면 이번 구간에 새로 경합한 방은 기록하지 않음
+				return;
+			}
+			contention = window.computeIfAbsent(roomCode, code -> new Contention());
+		}
+		contention.record(waitNanos, failed);
+	}
+
+	@Scheduled(fixedDelay = 60_000)
+	public void rotate() {
+		previous = current;
+		current = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * returns at most size rooms that spent the most time waiting for their locks
+	 */
+	public List<RoomContention> findTopContended(int size) {
+		Map<String, RoomContention> merged = new HashMap<>();
+		previous.forEach((roomCode, contention) -> merged.merge(roomCode, contention.toRoomContention(roomCode), LockContentionTracker::sum));
+		current.forEach((roomCode, contention) -> merged.merge(roomCode, contention.toRoomContention(roomCode), LockContentionTracker::sum));
+
+		return merged.values().stream()
+			.sorted(Comparator.comparingLong(RoomContention::getTotalWaitMillis)
+				.thenComparingLong(RoomContention::getFailureCount)
+				.reversed())
+			.limit(size)
+			.toList();
+	}
+
+	private static RoomContention sum(RoomContention first, RoomContention second) {
+		return new RoomContention(first.getRoomCode(),
+			first.getContendedCount() + second.getContendedCount(),
+			first.getFailureCount() + second.getFailureCount(),
+			first.getTotalWaitMillis() + second.getTotalWaitMillis(),
+			Math.max(first.getMaxWaitMillis(), second.getMaxWaitMillis()));
+	}
+
+	private static class Contention {
+
+		private final LongAdder contendedCount = new LongAdder();
+		private final LongAdder failureCount = new LongAdder();
+		private final LongAdder totalWaitNanos = new LongAdder();
+		private final AtomicLong maxWaitNanos = new AtomicLong();
+
+		private void record(long waitNanos, boolean failed) {
+			contendedCount.increment();
+			if (failed) {
+				failureCount.increment();
+			}
+			totalWaitNanos.add(waitNanos);
+			maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+		}
+
+		private RoomContention toRoomContention(String roomCode) {
+			return new RoomContention(roomCode, contendedCount.sum(), failureCount.sum(),
+				TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()), TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+		}
+
+	}
+
+}
@@ -0,0 +1,157 @@
+package site.youtogether.util.lock;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import site.youtogether.config.property.LockProperties;
+import site.youtogether.exception.CustomException;
+
+/**
+ * runs tasks while holding a named lock, or on the room's mailbox for room scoped tasks when the mailbox is enabled
+ * records how long tasks waited for and held their lock, tagged by operation and lock key
+ */
+@Component
+public class LockExecutor {
+
+	private static final long WAIT_SECONDS = 10;
+	private static final long LEASE_SECONDS = 1;
+	private static final String MAILBOX_MODE = "mailbox";
+
+	private final LockProvider lockProvider;
+	private final Optional<RoomMailbox> roomMailbox;
+	private final LockContentionTracker lockContentionTracker;
+	private final MeterRegistry meterRegistry;
+	private final String lockMode;
+
+	public LockExecutor(LockProvider lockProvider, Optional<RoomMailbox> roomMailbox, LockContentionTracker lockContentionTracker,
+		MeterRegistry meterRegistry, LockProperties lockProperties) {
+		this.lockProvider = lockProvider;
+		this.roomMailbox = roomMailbox;
+		this.lockContentionTracker = lockContentionTracker;
+		this.meterRegistry = meterRegistry;
+		this.lockMode = lockProperties.getProvider().name().toLowerCase();
+	}
+
+	public <T> T execute(String operation, LockKey key, String id, SynchronizedTask<T> task) {
+		ResourceLock lock = lockProvider.getLock(key.lockName(id));
+		long waitStartedAt = System.nanoTime();
+		long acquiredAt = 0;
+		boolean available = false;
+		try {
+			available = lock.tryLock(WAIT_SECONDS, LEASE_SECONDS, TimeUnit.SECONDS);
+			acquiredAt = System.nanoTime();
+			recordWait(operation, key, lockMode, id, acquiredAt - waitStartedAt, available);
+			if (!available) {
+				throw new RuntimeException("Lock 획득 실패");
+			}
+			return task.run();
+		} catch (CustomException e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new RuntimeException(t);
+		} finally {
+			if (available) {
+				release(operation, key, lock, acquiredAt);
+			}
+		}
+	}
+
+	public <T> T executeInRoom(String operation, LockKey key, String roomCode, SynchronizedTask<T> task) {
+		if (roomMailbox.isEmpty()) {
+			return execute(operation, key, roomCode, task);
+		}
+		return callInRoom(operation, key, roomCode, task);
+	}
+
+	/**
+	 * fails right away with failure when the lock is held, mailbox tasks are queued as usual
+	 */
+	public <T> T tryExecuteInRoom(String operation, LockKey key, String roomCode, SynchronizedTask<T> task,
+		Supplier<? extends CustomException> failure) {
+		if (roomMailbox.isPresent()) {
+			return callInRoom(operation, key, roomCode, task);
+		}
+
+		ResourceLock lock = lockProvider.getLock(key.lockName(roomCode));
+		long waitStartedAt = System.nanoTime();
+		long acquiredAt = 0;
+		boolean available = false;
+		try {
+			available = lock.tryLock();
+			acquiredAt = System.nanoTime();
+			recordWait(operation, key, lockMode, roomCode, acquiredAt - waitStartedAt, available);
+			if (!available) {
+				throw failure.get();
+			}
+			return task.run();
+		} catch (CustomException e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new RuntimeException(t);
+		} finally {
+			if (available) {
+				release(operation, key, lock, acquiredAt);
+			}
+		}
+	}
+
+	// 메일박스에서는 큐에서 기다린 시간을 대기 시간으로, 실행 시간을 보유 시간으로 기록
+	private <T> T callInRoom(String operation, LockKey key, String roomCode, SynchronizedTask<T> task) {
+		long queuedAt = System.nanoTime();
+		AtomicBoolean started = new AtomicBoolean();
+		try {
+			return roomMailbox.get().call(roomCode, () -> {
+				long startedAt = System.nanoTime();
+				started.set(true);
+				recordWait(operation, key, MAILBOX_MODE, roomCode, startedAt - queuedAt, true);
+				try {
+					return task.run();
+				} finally {
+					recordHold(operation, key, MAILBOX_MODE, System.nanoTime() - startedAt);
+				}
+			});
+		} catch (CustomException e) {
+			throw e;
+		} catch (Throwable t) {
+			if (!started.get()) {
+				recordWait(operation, key, MAILBOX_MODE, roomCode, System.nanoTime() - queuedAt, false);
+			}
+			throw new RuntimeException(t);
+		}
+	}
+
+	// 임대 시간이 지나 이미 풀린 락이면, 그 사이 다른 스레드가 같은 자원을 수정했을 수 있다
+	private void release(String operation, LockKey key, ResourceLock lock, long acquiredAt) {
+		recordHold(operation, key, lockMode, System.nanoTime() - acquiredAt);
+		if (!lock.unlock()) {
+			meterRegistry.counter("lock.lease.expired", "operation", operation, "key", key.tag(), "mode", lockMode).increment();
+		}
+	}
+
+	private void recordWait(String operation, LockKey key, String mode, String id, long waitNanos, boolean acquired) {
+		Timer.builder("lock.wait")
+			.tags("operation", operation, "key", key.tag(), "mode", mode, "result", acquired ? "acquired" : "failed")
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(waitNanos, TimeUnit.NANOSECONDS);
+
+		if (key.isRoomScoped()) {
+			lockContentionTracker.record(id, waitNanos, !acquired);
+		}
+	}
+
+	private void recordHold(String operation, LockKey key, String mode, long holdNanos) {
+		Timer.builder("lock.hold")
+			.tags("operation", operation, "key", key.tag(), "mode", mode)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(holdNanos, TimeUnit.NANOSECONDS);
+	}
+
+}
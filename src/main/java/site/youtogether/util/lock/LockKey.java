@@ -0,0 +1,28 @@
+package site.youtogether.util.lock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * kind of resource a lock guards, the lock name is the prefix followed by the resource id
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LockKey {
+
+	USER("", false),
+	PLAYLIST("pl-", true),
+	VIDEO("video-", true);
+
+	private final String prefix;
+	private final boolean roomScoped;       // id 가 방 코드인 락
+
+	public String lockName(String id) {
+		return prefix + id;
+	}
+
+	public String tag() {
+		return name().toLowerCase();
+	}
+
+}
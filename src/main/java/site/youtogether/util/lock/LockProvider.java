@@ -0,0 +1,7 @@
+package site.youtogether.util.lock;
+
+public interface LockProvider {
+
+	ResourceLock getLock(String name);
+
+}
@@ -0,0 +1,51 @@
+package site.youtogether.util.lock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * locks shared by every node through Redis
+ */
+@RequiredArgsConstructor
+public class RedissonLockProvider implements LockProvider {
+
+	private final RedissonClient redissonClient;
+
+	@Override
+	public ResourceLock getLock(String name) {
+		return new RedissonResourceLock(redissonClient.getLock(name));
+	}
+
+	@RequiredArgsConstructor
+	private static class RedissonResourceLock implements ResourceLock {
+
+		private final RLock lock;
+
+		@Override
+		public boolean tryLock() {
+			return lock.tryLock();
+		}
+
+		@Override
+		public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+			return lock.tryLock(waitTime, leaseTime, unit);
+		}
+
+		// 임대 시간이 지나 이미 풀린 락이면 예외가 발생하므로, 확인을 위한 추가 조회 없이 예외로 판단
+		@Override
+		public boolean unlock() {
+			try {
+				lock.unlock();
+				return true;
+			} catch (IllegalMonitorStateException e) {
+				return false;
+			}
+		}
+
+	}
+
+}
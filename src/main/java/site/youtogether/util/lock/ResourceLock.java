@@ -0,0 +1,23 @@
+package site.youtogether.util.lock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * reentrant lock on a named resource
+ * a lock acquired with a lease is released automatically once the lease expires, even if the holder is still running
+ */
+public interface ResourceLock {
+
+	/**
+	 * acquires the lock only if it is free, and holds it until unlock
+	 */
+	boolean tryLock();
+
+	boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException;
+
+	/**
+	 * returns false if the current thread no longer held the lock, because its lease had expired
+	 */
+	boolean unlock();
+
+}
@@ -0,0 +1,16 @@
+package site.youtogether.util.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class RoomContention {
+
+	private final String roomCode;
+	private final long contendedCount;
+	private final long failureCount;
+	private final long totalWaitMillis;
+	private final long maxWaitMillis;
+
+}
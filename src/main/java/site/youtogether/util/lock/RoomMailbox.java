@@ -0,0 +1,137 @@
+package site.youtogether.util.lock;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import site.youtogether.config.property.LockProperties;
+
+/**
+ * runs the tasks of a room one at a time, in submission order, on a shared pool of worker threads
+ * different rooms run in parallel, and a mailbox only exists while its room has queued tasks
+ */
+public class RoomMailbox {
+
+	private static final int DRAIN_BATCH_SIZE = 32;                       // 한 방이 워커를 오래 점유하지 않도록 나눠서 처리
+
+	private final long waitMillis;
+	private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+	private final ThreadLocal<String> runningRoomCode = new ThreadLocal<>();
+	private final ExecutorService workers;
+
+	public RoomMailbox(LockProperties lockProperties) {
+		LockProperties.Mailbox mailbox = lockProperties.getMailbox();
+		AtomicInteger threadNumber = new AtomicInteger();
+
+		this.waitMillis = mailbox.getWaitTime().toMillis();
+		this.workers = Executors.newFixedThreadPool(mailbox.getThreads(), runnable -> {
+			Thread thread = new Thread(runnable, "room-mailbox-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * runs task on the room's mailbox and waits for its result
+	 * a task that is still queued after the wait time is dropped and fails like an unavailable lock
+	 */
+	public <T> T call(String roomCode, SynchronizedTask<T> task) throws Throwable {
+		if (roomCode.equals(runningRoomCode.get())) {                       // 이미 이 방의 메일박스에서 실행 중이면 그대로 실행
+			return task.run();
+		}
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		AtomicBoolean claimed = new AtomicBoolean();                        // 작업과 시간 초과 중 먼저 차지한 쪽만 진행
+		enqueue(roomCode, () -> {
+			if (!claimed.compareAndSet(false, true)) {                        // 대기 시간이 지나 호출한 쪽이 포기한 작업
+				return;
+			}
+			runningRoomCode.set(roomCode);
+			try {
+				result.complete(task.run());
+			} catch (Throwable t) {
+				result.completeExceptionally(t);
+			} finally {
+				runningRoomCode.remove();
+			}
+		});
+
+		try {
+			try {
+				return result.get(waitMillis, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				if (claimed.compareAndSet(false, true)) {
+					throw new RuntimeException("Lock 획득 실패");
+				}
+				return result.get();                                        // 이미 실행 중인 작업은 끝날 때까지 기다린다
+			}
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+
+	private void enqueue(String roomCode, Runnable task) {
+		mailboxes.compute(roomCode, (code, mailbox) -> {
+			Mailbox target = mailbox == null ? new Mailbox(code) : mailbox;
+			target.tasks.add(task);
+			if (!target.scheduled) {
+				target.scheduled = true;
+				workers.execute(() -> drain(target));
+			}
+			return target;
+		});
+	}
+
+	private void drain(Mailbox mailbox) {
+		for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+			Runnable task = poll(mailbox);
+			if (task == null) {
+				return;
+			}
+			task.run();
+		}
+		workers.execute(() -> drain(mailbox));
+	}
+
+	// 비어 있으면 메일박스를 제거해서, 다음 작업이 새 메일박스로 다시 예약되도록 한다
+	private Runnable poll(Mailbox mailbox) {
+		Runnable[] next = new Runnable[1];
+		mailboxes.compute(mailbox.roomCode, (code, current) -> {
+			next[0] = mailbox.tasks.poll();
+			if (next[0] == null) {
+				mailbox.scheduled = false;
+				return null;
+			}
+			return mailbox;
+		});
+		return next[0];
+	}
+
+	private static class Mailbox {
+
+		private final String roomCode;
+		private final Queue<Runnable> tasks = new ArrayDeque<>();         // mailboxes.compute 안에서만 접근
+		private boolean scheduled;
+
+		private Mailbox(String roomCode) {
+			this.roomCode = roomCode;
+		}
+
+	}
+
+}
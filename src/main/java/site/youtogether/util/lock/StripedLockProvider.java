@@ -0,0 +1,132 @@
+package site.youtogether.util.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * in-process locks for single node deployments, names are hashed onto a fixed number of stripes
+ * names sharing a stripe share a lock, which only adds contention and never breaks mutual exclusion
+ */
+public class StripedLockProvider implements LockProvider {
+
+	private final StripeLock[] stripes;
+
+	public StripedLockProvider(int stripeCount) {
+		this.stripes = new StripeLock[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new StripeLock();
+		}
+	}
+
+	@Override
+	public ResourceLock getLock(String name) {
+		int hash = name.hashCode();
+		return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+	}
+
+	/**
+	 * reentrant lock with the same lease semantics as Redisson
+	 * an expired lease frees the lock for other threads, only the outermost acquire sets the lease
+	 */
+	private static class StripeLock implements ResourceLock {
+
+		private final ReentrantLock guard = new ReentrantLock();
+		private final Condition released = guard.newCondition();
+
+		private Thread owner;
+		private int holdCount;
+		private boolean leased;
+		private long leaseExpiresAt;        // System.nanoTime() 기준
+
+		@Override
+		public boolean tryLock() {
+			guard.lock();
+			try {
+				return acquire(-1, System.nanoTime());
+			} finally {
+				guard.unlock();
+			}
+		}
+
+		@Override
+		public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+			long waitNanos = unit.toNanos(waitTime);
+			long leaseNanos = unit.toNanos(leaseTime);
+			long deadline = System.nanoTime() + waitNanos;
+
+			guard.lockInterruptibly();
+			try {
+				while (true) {
+					long now = System.nanoTime();
+					if (acquire(leaseNanos, now)) {
+						return true;
+					}
+
+					long remaining = deadline - now;
+					if (remaining <= 0) {
+						return false;
+					}
+					if (leased) {                                                 // 임대 만료 시점에 깨어나서 다시 시도
+						remaining = Math.min(remaining, Math.max(leaseExpiresAt - now, 1));
+					}
+					released.awaitNanos(remaining);
+				}
+			} finally {
+				guard.unlock();
+			}
+		}
+
+		@Override
+		public boolean unlock() {
+			guard.lock();
+			try {
+				releaseIfExpired(System.nanoTime());
+				if (owner != Thread.currentThread()) {
+					return false;
+				}
+
+				holdCount--;
+				if (holdCount == 0) {
+					owner = null;
+					leased = false;
+					released.signalAll();
+				}
+				return true;
+			} finally {
+				guard.unlock();
+			}
+		}
+
+		// leaseNanos 가 음수이면 unlock 할 때까지 보유
+		// 재진입한 획득은 바깥 획득의 임대를 그대로 두어, 안쪽의 짧은 임대나 임대 없음이 바깥 임대를 덮어쓰지 않는다
+		private boolean acquire(long leaseNanos, long now) {
+			releaseIfExpired(now);
+			Thread current = Thread.currentThread();
+			if (owner == current) {
+				holdCount++;
+				return true;
+			}
+			if (owner != null) {
+				return false;
+			}
+
+			owner = current;
+			holdCount = 1;
+			leased = leaseNanos >= 0;
+			leaseExpiresAt = now + leaseNanos;
+			return true;
+		}
+
+		private void releaseIfExpired(long now) {
+			if (owner != null && leased && now - leaseExpiresAt >= 0) {
+				owner = null;
+				holdCount = 0;
+				leased = false;
+				released.signalAll();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,8 @@
+package site.youtogether.util.lock;
+
+@FunctionalInterface
+public interface SynchronizedTask<T> {
+
+	T run() throws Throwable;
+
+}
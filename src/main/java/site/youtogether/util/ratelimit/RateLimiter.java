@@ -0,0 +1,37 @@
+package site.youtogether.util.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.youtogether.config.property.RateLimitProperties.Limit;
+
+@Component
+public class RateLimiter {
+
+	private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	public boolean tryAcquire(String key, Limit limit) {
+		long now = System.nanoTime();
+		TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+
+		return bucket.tryAcquire(now);
+	}
+
+	public void refund(String key) {
+		TokenBucket bucket = buckets.get(key);
+		if (bucket != null) {
+			bucket.refund();
+		}
+	}
+
+	// 가득 찬 버킷은 새로 만든 것과 같으므로 제거해도 제한 결과가 달라지지 않는다
+	@Scheduled(fixedDelay = 60_000)
+	public void evictIdleBuckets() {
+		long now = System.nanoTime();
+		buckets.values().removeIf(bucket -> bucket.isFull(now));
+	}
+
+}
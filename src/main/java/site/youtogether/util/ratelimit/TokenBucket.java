@@ -0,0 +1,50 @@
+package site.youtogether.util.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as GCRA over a single theoretical arrival time.
+ */
+public class TokenBucket {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final long emissionIntervalNanos;
+	private final long burstToleranceNanos;
+	private final AtomicLong theoreticalArrivalTime;
+
+	public TokenBucket(int capacity, double refillPerSecond, long now) {
+		if (capacity < 1 || refillPerSecond <= 0) {
+			throw new IllegalArgumentException("capacity와 refillPerSecond는 0보다 커야 합니다.");
+		}
+
+		this.emissionIntervalNanos = Math.max(1L, (long)(NANOS_PER_SECOND / refillPerSecond));
+		this.burstToleranceNanos = emissionIntervalNanos * capacity;
+		this.theoreticalArrivalTime = new AtomicLong(now);
+	}
+
+	public boolean tryAcquire(long now) {
+		while (true) {
+			long tat = theoreticalArrivalTime.get();
+			long nextTat = Math.max(tat, now) + emissionIntervalNanos;
+
+			// 버킷에 남은 토큰이 없으면 상태를 바꾸지 않고 거절한다
+			if (nextTat - now > burstToleranceNanos) {
+				return false;
+			}
+			if (theoreticalArrivalTime.compareAndSet(tat, nextTat)) {
+				return true;
+			}
+		}
+	}
+
+	// 다른 버킷에서 거절되어 처리되지 않은 요청의 토큰을 돌려준다
+	public void refund() {
+		theoreticalArrivalTime.addAndGet(-emissionIntervalNanos);
+	}
+
+	public boolean isFull(long now) {
+		return theoreticalArrivalTime.get() <= now;
+	}
+
+}
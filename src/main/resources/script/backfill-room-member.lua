@@ -0,0 +1,24 @@
+local roomMemberKey = KEYS[1]
+local privilegedMemberKey = KEYS[2]
+local memberOrderKey = KEYS[3]
+local roomCode = ARGV[1]
+local userKeyPrefix = ARGV[2]
+
+-- 검색 이후에 퇴장한 유저를 다시 추가하지 않도록 아직 이 방에 있는 유저만 채우고,
+-- 그 사이 입장 스크립트가 기록한 멤버는 덮어쓰지 않는다
+-- ARGV[3] 부터 유저마다 userId, 멤버, 정렬 멤버, 역할 순위, HOST/MANAGER/EDITOR 여부
+local count = 0
+for i = 3, #ARGV, 5 do
+    local userId = ARGV[i]
+    local currentRoomCode = redis.call("JSON.GET", userKeyPrefix .. userId, "$.currentRoomCode")
+    if currentRoomCode and cjson.decode(currentRoomCode)[1] == roomCode
+        and redis.call("HSETNX", roomMemberKey, userId, ARGV[i + 1]) == 1 then
+        redis.call("ZADD", memberOrderKey, ARGV[i + 3], ARGV[i + 2])
+        if ARGV[i + 4] == "1" then
+            redis.call("HSET", privilegedMemberKey, userId, ARGV[i + 1])
+        end
+        count = count + 1
+    end
+end
+
+return count
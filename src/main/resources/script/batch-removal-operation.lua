@@ -7,6 +7,11 @@ for i = 2, #eraseRoomList do
     redis.call("DEL", eraseRoomList[i])
     redis.call("DEL", "playlist:" .. string.match(eraseRoomList[i], "([^:]+)$"))
     redis.call("DEL", "chat:" .. string.match(eraseRoomList[i], "([^:]+)$"))
+    redis.call("DEL", "nowplaying:" .. string.match(eraseRoomList[i], "([^:]+)$"))
+    redis.call("DEL", "participants:" .. string.match(eraseRoomList[i], "([^:]+)$"))
+    redis.call("DEL", "members:" .. string.match(eraseRoomList[i], "([^:]+)$"))
+    redis.call("DEL", "privileged:" .. string.match(eraseRoomList[i], "([^:]+)$"))
+    redis.call("DEL", "memberorder:" .. string.match(eraseRoomList[i], "([^:]+)$"))
 end
 
 local inactiveRoomList = redis.call("FT.SEARCH", roomIndex, "@participantCount:[0 0]", "LIMIT", 0, 10000, "NOCONTENT")
@@ -0,0 +1,9 @@
+local roomKey = KEYS[1]
+local newTitle = ARGV[1]
+
+if redis.call("EXISTS", roomKey) == 0 then
+    return false
+end
+
+redis.call("JSON.SET", roomKey, "$.title", cjson.encode(newTitle))
+return true
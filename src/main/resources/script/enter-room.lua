@@ -0,0 +1,89 @@
+local roomKey = KEYS[1]
+local userKey = KEYS[2]
+local participantCountKey = KEYS[3]
+local dirtyRoomSet = KEYS[4]
+local roomMemberKey = KEYS[5]
+local privilegedMemberKey = KEYS[6]
+local memberOrderKey = KEYS[7]
+local roomCode = ARGV[1]
+local hasPasswordInput = ARGV[2] == "1"
+local passwordInput = ARGV[3]
+local historyLength = tonumber(ARGV[4])
+local userId = ARGV[5]
+local orderMember = ARGV[6]
+
+if redis.call("EXISTS", userKey) == 0 then
+    return "USER_NOT_FOUND"
+end
+
+local roomJson = redis.call("JSON.GET", roomKey, "$.password", "$.capacity", "$.participantCount")
+if not roomJson then
+    return "ROOM_NOT_FOUND"
+end
+
+local room = cjson.decode(roomJson)
+local password = room["$.password"][1]
+if password ~= nil and password ~= cjson.null then
+    if not hasPasswordInput or password ~= passwordInput then
+        return "PASSWORD_NOT_MATCH"
+    end
+end
+
+-- 인원 수는 별도 카운터에서 관리하고, 방 문서에는 동기화 작업이 모아서 반영한다
+local participantCount = tonumber(redis.call("GET", participantCountKey) or room["$.participantCount"][1] or 0)
+if participantCount >= room["$.capacity"][1] then
+    return "CAPACITY_EXCEEDED"
+end
+
+redis.call("SET", participantCountKey, participantCount + 1)
+redis.call("SADD", dirtyRoomSet, roomCode)
+
+-- 처음 입장한 방은 GUEST 로 기록하고, 기록이 가득 차면 가장 오래전에 방문한 방부터 제거, 재입장한 방은 방문 순서만 갱신
+local history = cjson.decode(redis.call("JSON.GET", userKey, "$.history"))[1]
+if history == nil then
+    history = {}
+    redis.call("JSON.SET", userKey, "$.history", "{}")
+end
+local roomCodeQueue = cjson.decode(redis.call("JSON.GET", userKey, "$.roomCodeQueue"))[1]
+if roomCodeQueue == nil then
+    roomCodeQueue = {}
+    redis.call("JSON.SET", userKey, "$.roomCodeQueue", "[]")
+end
+
+local role = history[roomCode]
+if role == nil then
+    role = "GUEST"
+    redis.call("JSON.SET", userKey, "$.history['" .. roomCode .. "']", '"GUEST"')
+    if #roomCodeQueue >= historyLength then
+        local oldestRoomCode = cjson.decode(redis.call("JSON.ARRPOP", userKey, "$.roomCodeQueue", 0)[1])
+        redis.call("JSON.DEL", userKey, "$.history['" .. oldestRoomCode .. "']")
+    end
+else
+    local index = redis.call("JSON.ARRINDEX", userKey, "$.roomCodeQueue", cjson.encode(roomCode))[1]
+    if index >= 0 then
+        redis.call("JSON.ARRPOP", userKey, "$.roomCodeQueue", index)
+    end
+end
+
+redis.call("JSON.ARRAPPEND", userKey, "$.roomCodeQueue", cjson.encode(roomCode))
+redis.call("JSON.SET", userKey, "$.currentRoomCode", cjson.encode(roomCode))
+redis.call("JSON.SET", userKey, "$.activate", "true")
+
+-- 참여자 목록 브로드캐스트용 멤버 해시 (userId -> "역할|닉네임")
+local nickname = cjson.decode(redis.call("JSON.GET", userKey, "$.nickname"))[1]
+if nickname == nil or nickname == cjson.null then
+    nickname = ""
+end
+local member = role .. "|" .. nickname
+redis.call("HSET", roomMemberKey, userId, member)
+
+-- 역할 순 페이지 조회용 정렬 인덱스와, 요약 메시지용 HOST, MANAGER, EDITOR 해시
+local roleRank = { HOST = 0, MANAGER = 1, EDITOR = 2, GUEST = 3, VIEWER = 4 }
+redis.call("ZADD", memberOrderKey, roleRank[role], orderMember)
+if roleRank[role] <= roleRank["EDITOR"] then
+    redis.call("HSET", privilegedMemberKey, userId, member)
+else
+    redis.call("HDEL", privilegedMemberKey, userId)
+end
+
+return "OK"
@@ -0,0 +1,34 @@
+local roomKey = KEYS[1]
+local userKey = KEYS[2]
+local participantCountKey = KEYS[3]
+local dirtyRoomSet = KEYS[4]
+local roomMemberKey = KEYS[5]
+local privilegedMemberKey = KEYS[6]
+local memberOrderKey = KEYS[7]
+local roomCode = ARGV[1]
+local userId = ARGV[2]
+local orderMember = ARGV[3]
+
+local currentRoomCode = redis.call("JSON.GET", userKey, "$.currentRoomCode")
+if not currentRoomCode then
+    return "USER_NOT_FOUND"
+end
+
+if cjson.decode(currentRoomCode)[1] ~= roomCode then
+    return "USER_NOT_ENTERING"
+end
+
+local documentCount = redis.call("JSON.GET", roomKey, "$.participantCount")
+if not documentCount then
+    return "ROOM_NOT_FOUND"
+end
+
+local participantCount = tonumber(redis.call("GET", participantCountKey) or cjson.decode(documentCount)[1] or 0)
+redis.call("JSON.DEL", userKey, "$.currentRoomCode")
+redis.call("SET", participantCountKey, math.max(participantCount - 1, 0))
+redis.call("SADD", dirtyRoomSet, roomCode)
+redis.call("HDEL", roomMemberKey, userId)
+redis.call("HDEL", privilegedMemberKey, userId)
+redis.call("ZREM", memberOrderKey, orderMember)
+
+return "OK"
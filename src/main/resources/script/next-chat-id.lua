@@ -0,0 +1,6 @@
+local sequence = KEYS[1]
+local seed = ARGV[1]
+
+-- 시퀀스가 없으면 이전 버전의 ID(시각 기반)보다 크게 시작해서 기존 커서가 계속 유효하도록 한다
+redis.call("SET", sequence, seed, "NX")
+return redis.call("INCR", sequence)
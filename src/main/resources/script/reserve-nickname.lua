@@ -0,0 +1,18 @@
+local uniqueNicknameSet = KEYS[1]
+local startIndex = tonumber(ARGV[1])
+local probeCount = tonumber(ARGV[2])
+local stride = tonumber(ARGV[3])
+local suffixBound = tonumber(ARGV[4])
+local prefixCount = #ARGV - 4
+local nicknameCount = prefixCount * suffixBound
+
+-- 임의의 위치에서 시작해 stride 간격으로 닉네임 공간을 돌며, 처음으로 추가에 성공한 닉네임을 예약한다
+for i = 0, probeCount - 1 do
+    local index = (startIndex + i * stride) % nicknameCount
+    local nickname = ARGV[5 + math.floor(index / suffixBound)] .. string.format("%d", index % suffixBound)
+    if redis.call("SADD", uniqueNicknameSet, nickname) == 1 then
+        return nickname
+    end
+end
+
+return false
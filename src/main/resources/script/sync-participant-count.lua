@@ -0,0 +1,25 @@
+local dirtyRoomSet = KEYS[1]
+local batchSize = tonumber(ARGV[1])
+local roomKeyPrefix = ARGV[2]
+local participantCountPrefix = ARGV[3]
+
+-- 변경된 값만 JSON.SET 해서 인덱스 갱신을 최소화
+local roomCodes = redis.call("SPOP", dirtyRoomSet, batchSize)
+for _, roomCode in ipairs(roomCodes) do
+    local roomKey = roomKeyPrefix .. roomCode
+    local roomJson = redis.call("JSON.GET", roomKey, "$.participantCount", "$.capacity", "$.activate")
+    local participantCount = tonumber(redis.call("GET", participantCountPrefix .. roomCode))
+
+    if roomJson and participantCount then
+        local room = cjson.decode(roomJson)
+        if room["$.participantCount"][1] ~= participantCount then
+            redis.call("JSON.SET", roomKey, "$.participantCount", participantCount)
+            redis.call("JSON.SET", roomKey, "$.remainingCapacity", room["$.capacity"][1] - participantCount)
+        end
+        if participantCount > 0 and room["$.activate"][1] ~= true then
+            redis.call("JSON.SET", roomKey, "$.activate", "true")
+        end
+    end
+end
+
+return #roomCodes
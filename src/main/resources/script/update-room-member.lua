@@ -0,0 +1,22 @@
+local roomMemberKey = KEYS[1]
+local privilegedMemberKey = KEYS[2]
+local memberOrderKey = KEYS[3]
+local userId = ARGV[1]
+local member = ARGV[2]
+local orderMember = ARGV[3]
+local roleRank = ARGV[4]
+local privileged = ARGV[5] == "1"
+
+-- 이미 퇴장한 유저를 다시 추가하지 않도록 남아있는 멤버만 갱신
+if redis.call("HEXISTS", roomMemberKey, userId) == 0 then
+    return false
+end
+
+redis.call("HSET", roomMemberKey, userId, member)
+redis.call("ZADD", memberOrderKey, roleRank, orderMember)
+if privileged then
+    redis.call("HSET", privilegedMemberKey, userId, member)
+else
+    redis.call("HDEL", privilegedMemberKey, userId)
+end
+return true
@@ -12,22 +12,27 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import site.youtogether.config.PropertiesConfig;
 import site.youtogether.config.property.CookieProperties;
 import site.youtogether.jwt.JwtService;
+import site.youtogether.jwt.VerifiedTokenCache;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.message.presentation.ChatController;
 import site.youtogether.playlist.application.PlaylistService;
 import site.youtogether.playlist.presentation.PlaylistController;
 import site.youtogether.room.application.RoomService;
 import site.youtogether.room.presentation.RoomController;
 import site.youtogether.user.application.UserService;
 import site.youtogether.user.infrastructure.UniqueNicknameStorage;
+import site.youtogether.user.infrastructure.UserContext;
 import site.youtogether.user.infrastructure.UserStorage;
 import site.youtogether.user.presentation.UserController;
 
 @WebMvcTest(controllers = {
 	RoomController.class,
 	UserController.class,
-	PlaylistController.class
-})
+	PlaylistController.class,
+	ChatController.class
+}, properties = "jwt.token-cache-ttl=0s")
 @AutoConfigureRestDocs
-@Import(PropertiesConfig.class)
+@Import({PropertiesConfig.class, VerifiedTokenCache.class, UserContext.class})
 public abstract class RestDocsSupport {
 
 	@Autowired
@@ -57,4 +62,7 @@ public abstract class RestDocsSupport {
 	@MockBean
 	protected UniqueNicknameStorage uniqueNicknameStorage;
 
+	@MockBean
+	protected MessageService messageService;
+
 }
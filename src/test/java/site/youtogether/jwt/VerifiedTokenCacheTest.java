@@ -0,0 +1,109 @@
+package site.youtogether.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.youtogether.config.property.JwtProperties;
+
+class VerifiedTokenCacheTest {
+
+	private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(
+		new JwtProperties("issuer", "secretKey", Duration.ofMinutes(1), Duration.ofMinutes(1), 2));
+
+	@Test
+	@DisplayName("검증된 토큰은 다시 검증하지 않는다")
+	void verifyCached() {
+		// given
+		AtomicInteger verifyCount = new AtomicInteger();
+
+		// when
+		Long first = verifiedTokenCache.verify("token", token -> verify(verifyCount, 1L));
+		Long second = verifiedTokenCache.verify("token", token -> verify(verifyCount, 1L));
+
+		// then
+		assertThat(first).isEqualTo(1L);
+		assertThat(second).isEqualTo(1L);
+		assertThat(verifyCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 토큰도 캐시되어 다시 검증하지 않는다")
+	void verifyInvalidCached() {
+		// given
+		AtomicInteger verifyCount = new AtomicInteger();
+
+		// when
+		Long first = verifiedTokenCache.verify("invalid", token -> verify(verifyCount, null));
+		Long second = verifiedTokenCache.verify("invalid", token -> verify(verifyCount, null));
+
+		// then
+		assertThat(first).isNull();
+		assertThat(second).isNull();
+		assertThat(verifyCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("캐시를 비우면 다시 검증한다")
+	void invalidateAll() {
+		// given
+		AtomicInteger verifyCount = new AtomicInteger();
+		verifiedTokenCache.verify("token", token -> verify(verifyCount, 1L));
+
+		// when
+		verifiedTokenCache.invalidateAll();
+		Long userId = verifiedTokenCache.verify("token", token -> verify(verifyCount, null));
+
+		// then
+		assertThat(userId).isNull();
+		assertThat(verifyCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘는 토큰은 캐시하지 않는다")
+	void bounded() {
+		// given
+		AtomicInteger verifyCount = new AtomicInteger();
+		verifiedTokenCache.put("token1", new VerifiedToken(1L, Long.MAX_VALUE));
+		verifiedTokenCache.put("token2", new VerifiedToken(2L, Long.MAX_VALUE));
+
+		// when
+		verifiedTokenCache.verify("token3", token -> verify(verifyCount, 3L));
+		verifiedTokenCache.verify("token3", token -> verify(verifyCount, 3L));
+
+		// then
+		assertThat(verifyCount).hasValue(2);
+		assertThat(verifiedTokenCache.verify("token1", token -> verify(verifyCount, null))).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("만료가 가까운 토큰은 TTL 이 남아있어도 토큰이 만료되면 다시 검증한다")
+	void expireWithToken() throws Exception {
+		// given
+		AtomicInteger verifyCount = new AtomicInteger();
+		long expiresAt = System.currentTimeMillis() + 100;
+		verifiedTokenCache.verify("token", token -> verify(verifyCount, 1L, expiresAt));
+
+		// when
+		Thread.sleep(200);
+		Long userId = verifiedTokenCache.verify("token", token -> verify(verifyCount, null, expiresAt));
+
+		// then
+		assertThat(userId).isNull();
+		assertThat(verifyCount).hasValue(2);
+	}
+
+	private VerifiedToken verify(AtomicInteger verifyCount, Long userId) {
+		return verify(verifyCount, userId, Long.MAX_VALUE);
+	}
+
+	private VerifiedToken verify(AtomicInteger verifyCount, Long userId, long expiresAt) {
+		verifyCount.incrementAndGet();
+		return userId == null ? null : new VerifiedToken(userId, expiresAt);
+	}
+
+}
@@ -0,0 +1,65 @@
+package site.youtogether.message.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static site.youtogether.util.AppConstants.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import site.youtogether.IntegrationTestSupport;
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+import site.youtogether.message.dto.ChatHistoryList;
+import site.youtogether.message.infrastructure.ChatStorage;
+import site.youtogether.user.User;
+import site.youtogether.user.infrastructure.UserStorage;
+
+class MessageServiceTest extends IntegrationTestSupport {
+
+	private static final String ROOM_CODE = "room code";
+
+	@Autowired
+	private MessageService messageService;
+
+	@Autowired
+	private ChatStorage chatStorage;
+
+	@Autowired
+	private UserStorage userStorage;
+
+	@Autowired
+	private RedisTemplate<String, ChatHistory> redisTemplate;
+
+	@AfterEach
+	void clean() {
+		userStorage.deleteAll();
+		redisTemplate.delete(CHAT_PREFIX + ROOM_CODE);
+	}
+
+	@Test
+	@DisplayName("커서 이후의 채팅이 size 보다 많으면 size 개만 ID 순으로 조회하고 다음 페이지가 있다고 응답한다")
+	void fetchChatHistoriesAfterWithNext() {
+		// given
+		User user = User.builder()
+			.id(1L)
+			.nickname("황똥땡")
+			.currentRoomCode(ROOM_CODE)
+			.build();
+		userStorage.save(user);
+		for (long chatId = 1; chatId <= 5; chatId++) {
+			chatStorage.save(ROOM_CODE, new ChatHistory(MessageType.CHAT, chatId, 1L, "chat " + chatId, "2024-05-10T12:00:00"));
+		}
+
+		// when
+		ChatHistoryList chatHistoryList = messageService.fetchChatHistories(user.getId(), null, 1L, 2);
+
+		// then
+		assertThat(chatHistoryList.isHasNext()).isTrue();
+		assertThat(chatHistoryList.getChatHistories()).extracting(ChatHistory::getChatId)
+			.containsExactly(2L, 3L);
+	}
+
+}
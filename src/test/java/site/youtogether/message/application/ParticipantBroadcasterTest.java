@@ -0,0 +1,87 @@
+package site.youtogether.message.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import site.youtogether.config.property.RoomProperties;
+import site.youtogether.message.ParticipantChange;
+import site.youtogether.message.ParticipantChange.ChangeKind;
+import site.youtogether.message.ParticipantChangesMessage;
+import site.youtogether.room.Participant;
+import site.youtogether.user.Role;
+
+class ParticipantBroadcasterTest {
+
+	private static final String ROOM_CODE = "roomCode";
+
+	private final MessageService messageService = mock(MessageService.class);
+	private final ParticipantBroadcaster participantBroadcaster = new ParticipantBroadcaster(messageService,
+		new RoomProperties(Duration.ofMinutes(1), Duration.ofMillis(100), 100));
+
+	@AfterEach
+	void tearDown() {
+		participantBroadcaster.shutdown();
+	}
+
+	@Test
+	@DisplayName("짧은 시간 안에 여러 유저가 입장하면 변경 메시지 하나로 전송된다")
+	void collapseJoins() {
+		// when
+		participantBroadcaster.joined(ROOM_CODE, createParticipant(1L, Role.VIEWER));
+		participantBroadcaster.joined(ROOM_CODE, createParticipant(2L, Role.VIEWER));
+		participantBroadcaster.roleChanged(ROOM_CODE, createParticipant(2L, Role.EDITOR));
+
+		// then
+		ArgumentCaptor<ParticipantChangesMessage> captor = ArgumentCaptor.forClass(ParticipantChangesMessage.class);
+		verify(messageService, timeout(1000)).sendParticipantChanges(eq(ROOM_CODE), captor.capture());
+		verify(messageService, never()).sendParticipants(anyString(), anyString());
+
+		assertThat(captor.getValue().getChanges())
+			.extracting(ParticipantChange::getKind, ParticipantChange::getUserId, change -> change.getParticipant().getRole())
+			.containsExactly(
+				tuple(ChangeKind.JOINED, 1L, Role.VIEWER),
+				tuple(ChangeKind.JOINED, 2L, Role.EDITOR)
+			);
+	}
+
+	@Test
+	@DisplayName("같은 시간 안에 입장했다가 퇴장한 유저는 전송되지 않는다")
+	void joinAndLeaveCancelOut() {
+		// when
+		participantBroadcaster.joined(ROOM_CODE, createParticipant(1L, Role.VIEWER));
+		participantBroadcaster.left(ROOM_CODE, 1L);
+
+		// then
+		verify(messageService, after(300).never()).sendParticipantChanges(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("이미 있던 유저가 퇴장 후 재입장하고 다시 퇴장하면 퇴장으로 전송된다")
+	void leaveRejoinLeave() {
+		// when
+		participantBroadcaster.left(ROOM_CODE, 1L);
+		participantBroadcaster.joined(ROOM_CODE, createParticipant(1L, Role.VIEWER));
+		participantBroadcaster.left(ROOM_CODE, 1L);
+
+		// then
+		ArgumentCaptor<ParticipantChangesMessage> captor = ArgumentCaptor.forClass(ParticipantChangesMessage.class);
+		verify(messageService, timeout(1000)).sendParticipantChanges(eq(ROOM_CODE), captor.capture());
+
+		assertThat(captor.getValue().getChanges())
+			.extracting(ParticipantChange::getKind, ParticipantChange::getUserId)
+			.containsExactly(tuple(ChangeKind.LEFT, 1L));
+	}
+
+	private Participant createParticipant(Long userId, Role role) {
+		return new Participant(userId, "nickname" + userId, role);
+	}
+
+}
@@ -0,0 +1,137 @@
+package site.youtogether.message.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import site.youtogether.config.property.ChatProperties;
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+
+class ChatArchiveTest {
+
+	private static final String ROOM_CODE = "roomCode";
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("커서보다 오래된 채팅을 오래된 순으로 size 개 조회한다")
+	void findBefore() {
+		// given
+		ChatArchive chatArchive = createChatArchive();
+		appendChats(chatArchive, 1, 200);
+
+		// when
+		List<ChatHistory> chatHistories = chatArchive.findBefore(ROOM_CODE, 150L, 20);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId)
+			.containsExactlyElementsOf(List.of(130L, 131L, 132L, 133L, 134L, 135L, 136L, 137L, 138L, 139L,
+				140L, 141L, 142L, 143L, 144L, 145L, 146L, 147L, 148L, 149L));
+		assertThat(chatHistories.get(0).getContent()).isEqualTo("chat 130");
+	}
+
+	@Test
+	@DisplayName("커서보다 오래된 채팅이 size 보다 적으면 남아있는 채팅만 조회한다")
+	void findBeforeNearHead() {
+		// given
+		ChatArchive chatArchive = createChatArchive();
+		appendChats(chatArchive, 1, 50);
+
+		// when
+		List<ChatHistory> chatHistories = chatArchive.findBefore(ROOM_CODE, 4L, 10);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("애플리케이션을 다시 시작해도 디스크에 기록된 채팅을 조회할 수 있다")
+	void findBeforeAfterReopen() {
+		// given
+		appendChats(createChatArchive(), 1, 100);
+		ChatArchive reopened = createChatArchive();
+		appendChats(reopened, 101, 110);
+
+		// when
+		List<ChatHistory> chatHistories = reopened.findBefore(ROOM_CODE, 103L, 5);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(98L, 99L, 100L, 101L, 102L);
+	}
+
+	@Test
+	@DisplayName("chatId 순서와 다르게 기록되어도 커서보다 오래된 채팅을 빠짐없이 조회한다")
+	void findBeforeOutOfOrder() {
+		// given
+		ChatArchive chatArchive = createChatArchive();
+		appendChats(chatArchive, 1, 100);
+		appendChat(chatArchive, 120);
+		appendChats(chatArchive, 101, 119);      // 다른 서버에서 먼저 발급받았지만 늦게 기록된 채팅
+
+		// when
+		List<ChatHistory> chatHistories = chatArchive.findBefore(ROOM_CODE, 121L, 5);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(116L, 117L, 118L, 119L, 120L);
+	}
+
+	@Test
+	@DisplayName("세그먼트가 최대 크기에 닿으면 새 세그먼트에 이어서 기록하고, 여러 세그먼트에 걸쳐 조회한다")
+	void rollOverSegment() {
+		// given
+		ChatArchive chatArchive = createChatArchive(DataSize.ofBytes(1024));
+		appendChats(chatArchive, 1, 100);
+
+		// when
+		List<ChatHistory> chatHistories = chatArchive.findBefore(ROOM_CODE, 101L, 100);
+
+		// then
+		assertThat(directory.resolve(ROOM_CODE).toFile().list()).hasSizeGreaterThan(1);
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactlyElementsOf(
+			LongStream.rangeClosed(1, 100).boxed().toList());
+	}
+
+	@Test
+	@DisplayName("방의 아카이브를 삭제하면 더 이상 조회되지 않는다")
+	void delete() {
+		// given
+		ChatArchive chatArchive = createChatArchive();
+		appendChats(chatArchive, 1, 10);
+
+		// when
+		chatArchive.delete(ROOM_CODE);
+
+		// then
+		assertThat(chatArchive.findBefore(ROOM_CODE, 100L, 10)).isEmpty();
+		assertThat(directory.resolve(ROOM_CODE)).doesNotExist();
+	}
+
+	private ChatArchive createChatArchive() {
+		return createChatArchive(DataSize.ofGigabytes(1));
+	}
+
+	private ChatArchive createChatArchive(DataSize segmentSize) {
+		return new ChatArchive(new ChatProperties(ChatHistoryCodec.BINARY,
+			new ChatProperties.Archive(true, directory.toString(), 16, segmentSize)));
+	}
+
+	private void appendChats(ChatArchive chatArchive, long fromChatId, long toChatId) {
+		for (long chatId = fromChatId; chatId <= toChatId; chatId++) {
+			appendChat(chatArchive, chatId);
+		}
+	}
+
+	private void appendChat(ChatArchive chatArchive, long chatId) {
+		chatArchive.append(ROOM_CODE, new ChatHistory(MessageType.CHAT, chatId, 1L, "chat " + chatId, "2024-05-10T12:00:00"));
+	}
+
+}
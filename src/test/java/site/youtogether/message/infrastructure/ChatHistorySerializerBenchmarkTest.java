@@ -0,0 +1,82 @@
+package site.youtogether.message.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+
+/**
+ * measures the stored size and round trip time of each chat history codec, run with BENCHMARK=true
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ChatHistorySerializerBenchmarkTest {
+
+	private static final int MESSAGE_COUNT = 100;
+	private static final int WARM_UP = 2_000;
+	private static final int ITERATIONS = 10_000;
+	private static final String[] CONTENTS = {"ㅋㅋㅋ 이 장면 너무 웃겨요", "다음 영상 뭐 볼까요?", "hello everyone", "👍👍", "이 노래 제목 아시는 분 계신가요"};
+
+	@Test
+	@DisplayName("채팅 100개를 코덱마다 저장한 크기와 한 번 저장하고 읽는 시간을 측정한다")
+	void codecs() {
+		// given
+		List<ChatHistory> chatHistories = createChatHistories();
+
+		// when
+		long jsonSize = measure("json", new ChatHistorySerializer(ChatHistoryCodec.JSON), chatHistories);
+		long binarySize = measure("binary", new ChatHistorySerializer(ChatHistoryCodec.BINARY), chatHistories);
+
+		// then
+		assertThat(binarySize).isLessThan(jsonSize);
+	}
+
+	private List<ChatHistory> createChatHistories() {
+		List<ChatHistory> chatHistories = new ArrayList<>(MESSAGE_COUNT);
+		for (int i = 0; i < MESSAGE_COUNT; i++) {
+			String createdAt = "2024-05-10T12:" + String.format("%02d:%02d", i / 60, i % 60) + ".123456";
+			if (i % 10 == 9) {
+				chatHistories.add(new ChatHistory(MessageType.ALARM, 1715313600000000L + i, null, "nickname" + i + "님이 입장하셨습니다.", createdAt));
+			} else {
+				chatHistories.add(new ChatHistory(MessageType.CHAT, 1715313600000000L + i, (long)(i % 7), CONTENTS[i % CONTENTS.length], createdAt));
+			}
+		}
+		return chatHistories;
+	}
+
+	private long measure(String codec, ChatHistorySerializer serializer, List<ChatHistory> chatHistories) {
+		long size = 0;
+		for (ChatHistory chatHistory : chatHistories) {
+			size += serializer.serialize(chatHistory).length;
+		}
+
+		for (int i = 0; i < WARM_UP; i++) {
+			roundTrip(serializer, chatHistories);
+		}
+		long startedAt = System.nanoTime();
+		long checksum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			checksum += roundTrip(serializer, chatHistories);
+		}
+		long elapsed = System.nanoTime() - startedAt;
+
+		System.out.printf("[chat history codec benchmark] %-6s %6d bytes / %d chats  %6.3fus / round trip  (checksum %d)%n", codec, size,
+			MESSAGE_COUNT, elapsed / 1e3 / ITERATIONS / MESSAGE_COUNT, checksum);
+		return size;
+	}
+
+	private long roundTrip(ChatHistorySerializer serializer, List<ChatHistory> chatHistories) {
+		long checksum = 0;
+		for (ChatHistory chatHistory : chatHistories) {
+			checksum += serializer.deserialize(serializer.serialize(chatHistory)).getContent().length();
+		}
+		return checksum;
+	}
+
+}
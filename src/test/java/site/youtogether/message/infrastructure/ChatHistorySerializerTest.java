@@ -0,0 +1,123 @@
+package site.youtogether.message.infrastructure;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+
+class ChatHistorySerializerTest {
+
+	private final ChatHistorySerializer binarySerializer = new ChatHistorySerializer(ChatHistoryCodec.BINARY);
+	private final ChatHistorySerializer jsonSerializer = new ChatHistorySerializer(ChatHistoryCodec.JSON);
+
+	@Test
+	@DisplayName("채팅 기록을 바이너리로 저장하고 다시 읽을 수 있다")
+	void binaryRoundTrip() {
+		// given
+		ChatHistory chatHistory = new ChatHistory(MessageType.CHAT, 1715313600000001L, 3L, "안녕하세요 😀", "2024-05-10T12:00:00.123");
+
+		// when
+		ChatHistory result = binarySerializer.deserialize(binarySerializer.serialize(chatHistory));
+
+		// then
+		assertThat(result).usingRecursiveComparison().isEqualTo(chatHistory);
+	}
+
+	@Test
+	@DisplayName("알림 기록처럼 비어있는 필드가 있어도 바이너리로 저장하고 다시 읽을 수 있다")
+	void binaryRoundTripWithNullFields() {
+		// given
+		ChatHistory chatHistory = new ChatHistory(MessageType.ALARM, 7L, null, "방 제목이 변경되었습니다.", null);
+
+		// when
+		ChatHistory result = binarySerializer.deserialize(binarySerializer.serialize(chatHistory));
+
+		// then
+		assertThat(result).usingRecursiveComparison().isEqualTo(chatHistory);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"2024-05-10T12:00", "2024-05-10T12:00:00", "2024-05-10T12:00:30", "2024-05-10T12:00:00.100",
+		"2024-05-10T12:00:00.123456", "2024-05-10T12:00:00.123456789"})
+	@DisplayName("생성 시각은 초나 밀리초가 0 이어도 원래 문자열 그대로 읽을 수 있다")
+	void binaryRoundTripCreatedAt(String createdAt) {
+		// given
+		ChatHistory chatHistory = new ChatHistory(MessageType.CHAT, 1L, 3L, "hello", createdAt);
+
+		// when
+		ChatHistory result = binarySerializer.deserialize(binarySerializer.serialize(chatHistory));
+
+		// then
+		assertThat(result.getCreatedAt()).isEqualTo(createdAt);
+	}
+
+	@Test
+	@DisplayName("형식이 다른 생성 시각은 문자열 그대로 저장한다")
+	void binaryRoundTripRawCreatedAt() {
+		// given
+		ChatHistory chatHistory = new ChatHistory(MessageType.CHAT, 1L, 3L, "hello", "2024/05/10 12:00");
+
+		// when
+		ChatHistory result = binarySerializer.deserialize(binarySerializer.serialize(chatHistory));
+
+		// then
+		assertThat(result.getCreatedAt()).isEqualTo("2024/05/10 12:00");
+	}
+
+	@Test
+	@DisplayName("메시지 타입은 enum 순서와 상관없이 고정된 코드로 저장된다")
+	void messageTypeCode() {
+		// given
+		ChatHistory chatHistory = new ChatHistory(MessageType.PARTICIPANT_SUMMARY, 1L, null, null, null);
+
+		// when
+		byte[] bytes = binarySerializer.serialize(chatHistory);
+
+		// then
+		assertThat(bytes[1]).isEqualTo((byte)10);
+		assertThat(binarySerializer.deserialize(bytes).getMessageType()).isEqualTo(MessageType.PARTICIPANT_SUMMARY);
+	}
+
+	@Test
+	@DisplayName("기존에 JSON 으로 저장된 채팅 기록도 읽을 수 있다")
+	void readLegacyJson() {
+		// given
+		String json = "{\"messageType\":\"CHAT\",\"chatId\":1,\"userId\":2,\"content\":\"hello\",\"createdAt\":\"2024-05-10T12:00:00.123456\"}";
+
+		// when
+		ChatHistory result = binarySerializer.deserialize(json.getBytes(UTF_8));
+
+		// then
+		assertThat(result.getMessageType()).isEqualTo(MessageType.CHAT);
+		assertThat(result.getChatId()).isEqualTo(1L);
+		assertThat(result.getUserId()).isEqualTo(2L);
+		assertThat(result.getContent()).isEqualTo("hello");
+		assertThat(result.getCreatedAt()).isEqualTo("2024-05-10T12:00:00.123456");
+	}
+
+	@Test
+	@DisplayName("채팅 100개를 바이너리로 저장하면 JSON 보다 절반 이하의 크기를 차지한다")
+	void binaryIsCompact() {
+		// given
+		long binarySize = 0;
+		long jsonSize = 0;
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			ChatHistory chatHistory = new ChatHistory(MessageType.CHAT, 1715313600000000L + i, (long)(i % 5), "ㅋㅋㅋ 이 장면 너무 웃겨요",
+				"2024-05-10T12:00:" + String.format("%02d", i % 60) + ".123456789");
+			binarySize += binarySerializer.serialize(chatHistory).length;
+			jsonSize += jsonSerializer.serialize(chatHistory).length;
+		}
+
+		// then
+		assertThat(binarySize).isLessThan(jsonSize / 2);
+	}
+
+}
@@ -0,0 +1,130 @@
+package site.youtogether.message.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+
+class ChatSearchIndexTest {
+
+	private static final String ROOM_CODE = "roomCode";
+
+	private final ChatStorage chatStorage = mock(ChatStorage.class);
+	private final ChatSearchIndex chatSearchIndex = new ChatSearchIndex(chatStorage);
+
+	@Test
+	@DisplayName("키워드를 포함하는 채팅을 최신 순으로 조회한다")
+	void search() {
+		// given
+		given(chatStorage.findLatest(eq(ROOM_CODE), anyInt())).willReturn(new ArrayList<>());
+		chatSearchIndex.add(ROOM_CODE, createChat(1L, "이 영상 재밌네요"));
+		chatSearchIndex.add(ROOM_CODE, createChat(2L, "안녕하세요"));
+		chatSearchIndex.add(ROOM_CODE, createChat(3L, "다음 영상 추천해주세요"));
+		chatSearchIndex.add(ROOM_CODE, createChat(4L, "영 상"));
+
+		// when
+		List<ChatHistory> chatHistories = chatSearchIndex.search(ROOM_CODE, "영상", null, 10);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(3L, 1L);
+	}
+
+	@Test
+	@DisplayName("커서 이전의 검색 결과만 size 개 조회한다")
+	void searchBefore() {
+		// given
+		given(chatStorage.findLatest(eq(ROOM_CODE), anyInt())).willReturn(new ArrayList<>());
+		for (long chatId = 1; chatId <= 10; chatId++) {
+			chatSearchIndex.add(ROOM_CODE, createChat(chatId, "Hello " + chatId));
+		}
+
+		// when
+		List<ChatHistory> chatHistories = chatSearchIndex.search(ROOM_CODE, "hello", 8L, 3);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(7L, 6L, 5L);
+	}
+
+	@Test
+	@DisplayName("chatId 순서와 다르게 들어온 채팅도 색인되고, 같은 채팅은 한 번만 색인된다")
+	void addOutOfOrder() {
+		// given
+		given(chatStorage.findLatest(eq(ROOM_CODE), anyInt())).willReturn(new ArrayList<>());
+		chatSearchIndex.add(ROOM_CODE, createChat(2L, "영상 좋아요"));
+		chatSearchIndex.add(ROOM_CODE, createChat(1L, "영상 시작"));
+		chatSearchIndex.add(ROOM_CODE, createChat(2L, "영상 좋아요"));
+
+		// when
+		List<ChatHistory> chatHistories = chatSearchIndex.search(ROOM_CODE, "영상", null, 10);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("처음 검색하는 방은 저장된 채팅 기록으로 색인을 만든다")
+	void bootstrapFromChatStorage() {
+		// given
+		given(chatStorage.findLatest(eq(ROOM_CODE), eq(CHAT_HISTORY_LENGTH))).willReturn(new ArrayList<>(List.of(
+			createChat(1L, "반갑습니다"),
+			new ChatHistory(MessageType.ALARM, 2L, null, "반갑습니다 님이 입장했습니다", "2024-05-10T12:00:00")
+		)));
+
+		// when
+		List<ChatHistory> chatHistories = chatSearchIndex.search(ROOM_CODE, "반갑", null, 10);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("색인 가능한 개수를 넘으면 가장 오래된 채팅부터 검색되지 않는다")
+	void evictOldest() {
+		// given
+		given(chatStorage.findLatest(eq(ROOM_CODE), anyInt())).willReturn(new ArrayList<>());
+		for (long chatId = 1; chatId <= CHAT_SEARCH_INDEX_LENGTH + 1; chatId++) {
+			chatSearchIndex.add(ROOM_CODE, createChat(chatId, "chat"));
+		}
+
+		// when
+		List<ChatHistory> chatHistories = chatSearchIndex.search(ROOM_CODE, "chat", 3L, 10);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 보낸 채팅도 채널로 전달받아 검색된다")
+	void addFromChannel() {
+		// given
+		given(chatStorage.findLatest(eq(ROOM_CODE), anyInt())).willReturn(new ArrayList<>());
+		chatSearchIndex.add(ROOM_CODE, createChat(1L, "영상 시작"));
+
+		byte[] body = "body".getBytes(StandardCharsets.UTF_8);
+		given(chatStorage.decode(body)).willReturn(createChat(2L, "영상 좋아요"));
+		Message message = new DefaultMessage((CHAT_APPENDED_CHANNEL_PREFIX + ROOM_CODE).getBytes(StandardCharsets.UTF_8), body);
+
+		// when
+		chatSearchIndex.onMessage(message, null);
+
+		// then
+		assertThat(chatSearchIndex.search(ROOM_CODE, "영상", null, 10)).extracting(ChatHistory::getChatId).containsExactly(2L, 1L);
+		then(chatStorage).should().publish(eq(ROOM_CODE), any(ChatHistory.class));
+	}
+
+	private ChatHistory createChat(Long chatId, String content) {
+		return new ChatHistory(MessageType.CHAT, chatId, 1L, content, "2024-05-10T12:00:00");
+	}
+
+}
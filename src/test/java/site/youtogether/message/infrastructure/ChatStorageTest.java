@@ -0,0 +1,89 @@
+package site.youtogether.message.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import site.youtogether.IntegrationTestSupport;
+import site.youtogether.message.ChatHistory;
+import site.youtogether.message.MessageType;
+
+class ChatStorageTest extends IntegrationTestSupport {
+
+	private static final String ROOM_CODE = "room code";
+
+	@Autowired
+	private ChatStorage chatStorage;
+
+	@Autowired
+	private RedisTemplate<String, ChatHistory> redisTemplate;
+
+	@AfterEach
+	void clean() {
+		redisTemplate.delete(CHAT_PREFIX + ROOM_CODE);
+	}
+
+	@Test
+	@DisplayName("발급되는 채팅 ID 는 항상 증가한다")
+	void nextChatId() {
+		// when
+		Long first = chatStorage.nextChatId();
+		Long second = chatStorage.nextChatId();
+
+		// then
+		assertThat(second).isGreaterThan(first);
+	}
+
+	@Test
+	@DisplayName("ID 순서와 다르게 저장되어도 커서보다 오래된 채팅을 ID 순으로 빠짐없이 조회한다")
+	void findBeforeOutOfOrder() {
+		// given
+		saveChats(1L, 3L, 2L, 5L, 4L);
+
+		// when
+		List<ChatHistory> chatHistories = chatStorage.findBefore(ROOM_CODE, 5L, 3);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(2L, 3L, 4L);
+	}
+
+	@Test
+	@DisplayName("ID 순서와 다르게 저장되어도 커서 이후의 채팅을 ID 순으로 빠짐없이 조회한다")
+	void findAfterOutOfOrder() {
+		// given
+		saveChats(1L, 3L, 2L, 5L, 4L);
+
+		// when
+		List<ChatHistory> chatHistories = chatStorage.findAfter(ROOM_CODE, 1L, 3);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(2L, 3L, 4L);
+	}
+
+	@Test
+	@DisplayName("최근 채팅을 ID 순으로 size 개 조회한다")
+	void findLatest() {
+		// given
+		saveChats(1L, 3L, 2L, 5L, 4L);
+
+		// when
+		List<ChatHistory> chatHistories = chatStorage.findLatest(ROOM_CODE, 2);
+
+		// then
+		assertThat(chatHistories).extracting(ChatHistory::getChatId).containsExactly(4L, 5L);
+	}
+
+	private void saveChats(Long... chatIds) {
+		for (Long chatId : chatIds) {
+			chatStorage.save(ROOM_CODE, new ChatHistory(MessageType.CHAT, chatId, 1L, "chat " + chatId, "2024-05-10T12:00:00"));
+		}
+	}
+
+}
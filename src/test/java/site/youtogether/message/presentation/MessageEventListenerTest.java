@@ -0,0 +1,84 @@
+package site.youtogether.message.presentation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import site.youtogether.config.property.RoomProperties;
+import site.youtogether.message.ParticipantChange;
+import site.youtogether.message.ParticipantChange.ChangeKind;
+import site.youtogether.message.ParticipantChangesMessage;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.message.application.ParticipantBroadcaster;
+import site.youtogether.room.Participant;
+import site.youtogether.room.application.RoomService;
+import site.youtogether.user.Role;
+import site.youtogether.user.User;
+import site.youtogether.user.infrastructure.UserStorage;
+
+class MessageEventListenerTest {
+
+	private static final String ROOM_CODE = "roomCode";
+	private static final String SESSION_ID = "session";
+
+	private final MessageService messageService = mock(MessageService.class);
+	private final UserStorage userStorage = mock(UserStorage.class);
+	private final MessageEventListener messageEventListener = new MessageEventListener(userStorage, mock(RoomService.class),
+		messageService);
+	private final ParticipantBroadcaster participantBroadcaster = new ParticipantBroadcaster(messageService,
+		new RoomProperties(Duration.ofMinutes(1), Duration.ofMillis(100), 100));
+
+	@AfterEach
+	void tearDown() {
+		participantBroadcaster.shutdown();
+	}
+
+	@Test
+	@DisplayName("같은 시간 안에 입장하고 구독하면 전체 목록은 구독한 세션에게만, 방에는 변경분이 전송된다")
+	void joinAndSubscribeInOneWindow() {
+		// given
+		given(userStorage.findById(1L))
+			.willReturn(Optional.of(User.builder().id(1L).nickname("황똥땡").currentRoomCode(ROOM_CODE).build()));
+
+		// when
+		participantBroadcaster.joined(ROOM_CODE, new Participant(1L, "황똥땡", Role.GUEST));
+		messageEventListener.handleWebSocketSubscriberListener(createSubscribeEvent(1L));
+
+		// then
+		verify(messageService).sendParticipants(ROOM_CODE, SESSION_ID);
+
+		ArgumentCaptor<ParticipantChangesMessage> captor = ArgumentCaptor.forClass(ParticipantChangesMessage.class);
+		verify(messageService, timeout(1000)).sendParticipantChanges(eq(ROOM_CODE), captor.capture());
+		assertThat(captor.getValue().getChanges())
+			.extracting(ParticipantChange::getKind, ParticipantChange::getUserId)
+			.containsExactly(tuple(ChangeKind.JOINED, 1L));
+	}
+
+	private SessionSubscribeEvent createSubscribeEvent(Long userId) {
+		StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		headerAccessor.setSessionId(SESSION_ID);
+		headerAccessor.setDestination(SUBSCRIBE_PATH + ROOM_CODE);
+		Map<String, Object> sessionAttributes = new HashMap<>();
+		sessionAttributes.put(USER_ID, userId);
+		headerAccessor.setSessionAttributes(sessionAttributes);
+
+		Message<byte[]> message = MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+		return new SessionSubscribeEvent(this, message);
+	}
+
+}
@@ -224,7 +224,7 @@ class PlaylistServiceTest extends IntegrationTestSupport {
 		}
 
 		user.getHistory().put(roomCode, role);
-		room.enter(null);
+		room.updateParticipantCount(1);
 
 		userStorage.save(user);
 		roomStorage.save(room);
@@ -0,0 +1,98 @@
+package site.youtogether.playlist.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.youtogether.config.property.VideoProperties;
+import site.youtogether.message.VideoSyncInfoMessage;
+import site.youtogether.playlist.PlayerState;
+
+class VideoControlDebouncerTest {
+
+	private final PlayingVideoService playingVideoService = mock(PlayingVideoService.class);
+	private final VideoControlDebouncer videoControlDebouncer = new VideoControlDebouncer(playingVideoService,
+		new VideoProperties(Duration.ofMillis(100), 2));
+
+	@AfterEach
+	void tearDown() {
+		videoControlDebouncer.shutdown();
+	}
+
+	@Test
+	@DisplayName("짧은 시간 안에 들어온 재생 제어 요청은 첫 요청과 마지막 요청만 반영된다")
+	void collapseBurst() {
+		// given
+		VideoSyncInfoMessage first = createMessage(PlayerState.PAUSE, 10.0);
+		VideoSyncInfoMessage middle = createMessage(PlayerState.PLAY, 11.0);
+		VideoSyncInfoMessage last = createMessage(PlayerState.PLAY, 12.0);
+
+		// when
+		videoControlDebouncer.submit(first);
+		videoControlDebouncer.submit(middle);
+		videoControlDebouncer.submit(last);
+
+		// then
+		verify(playingVideoService, timeout(1000)).manageVideo(first);
+		verify(playingVideoService, timeout(1000)).manageVideo(last);
+		verify(playingVideoService, after(300).never()).manageVideo(middle);
+	}
+
+	@Test
+	@DisplayName("재생 속도 변경 요청은 지연 없이 모두 반영된다")
+	void rateChangeIsNotDebounced() {
+		// given
+		VideoSyncInfoMessage pause = createMessage(PlayerState.PAUSE, 10.0);
+		VideoSyncInfoMessage rate = createMessage(PlayerState.RATE, 10.0);
+
+		// when
+		videoControlDebouncer.submit(pause);
+		videoControlDebouncer.submit(rate);
+
+		// then
+		verify(playingVideoService, timeout(1000)).manageVideo(pause);
+		verify(playingVideoService, timeout(1000)).manageVideo(rate);
+	}
+
+	@Test
+	@DisplayName("첫 요청의 반영이 늦어져도 마지막 요청이 가장 나중에 반영된다")
+	void applyInArrivalOrder() throws Exception {
+		// given
+		VideoSyncInfoMessage first = createMessage(PlayerState.PAUSE, 10.0);
+		VideoSyncInfoMessage last = createMessage(PlayerState.PLAY, 12.0);
+		List<VideoSyncInfoMessage> applied = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(2);
+		doAnswer(invocation -> {
+			VideoSyncInfoMessage message = invocation.getArgument(0);
+			if (message == first) {
+				Thread.sleep(300);            // 락 대기가 디바운스 구간보다 길어진 상황
+			}
+			applied.add(message);
+			latch.countDown();
+			return null;
+		}).when(playingVideoService).manageVideo(any());
+
+		// when
+		videoControlDebouncer.submit(first);
+		videoControlDebouncer.submit(last);
+
+		// then
+		assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+		assertThat(applied).containsExactly(first, last);
+	}
+
+	private VideoSyncInfoMessage createMessage(PlayerState playerState, double playerCurrentTime) {
+		return new VideoSyncInfoMessage("roomCode", "videoId", playerState, playerCurrentTime, 1.0);
+	}
+
+}
@@ -0,0 +1,82 @@
+package site.youtogether.playlist.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import site.youtogether.IntegrationTestSupport;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.playlist.PlayingDefaultVideo;
+import site.youtogether.playlist.Video;
+import site.youtogether.playlist.application.PlaylistService;
+import site.youtogether.playlist.dto.NowPlaying;
+
+class NowPlayingStorageTest extends IntegrationTestSupport {
+
+	@Autowired
+	private PlayingVideoStorage playingVideoStorage;
+
+	@Autowired
+	private NowPlayingStorage nowPlayingStorage;
+
+	@Autowired
+	private MessageService messageService;
+
+	@Autowired
+	private PlaylistService playlistService;
+
+	@AfterEach
+	void clean() {
+		playingVideoStorage.delete("room1");
+		playingVideoStorage.delete("room2");
+	}
+
+	@Test
+	@DisplayName("재생을 시작한 방의 영상 정보를 여러 방에 대해 한 번에 조회한다")
+	void findAllById() {
+		// given
+		Video video = Video.builder()
+			.videoNumber(1L)
+			.videoId("videoId")
+			.duration(100000)
+			.videoTitle("궤도 '연애의 과학' 특강")
+			.thumbnail("https://i.ytimg.com/vi/videoId/mqdefault.jpg")
+			.build();
+		playingVideoStorage.saveAndPlay(new PlayingDefaultVideo("room1", video, messageService, playlistService));
+
+		// when
+		Map<String, NowPlaying> nowPlayings = nowPlayingStorage.findAllById(List.of("room1", "room2"));
+
+		// then
+		assertThat(nowPlayings).containsOnlyKeys("room1");
+		assertThat(nowPlayings.get("room1").getVideoTitle()).isEqualTo("궤도 '연애의 과학' 특강");
+		assertThat(nowPlayings.get("room1").getThumbnail()).isEqualTo("https://i.ytimg.com/vi/videoId/mqdefault.jpg");
+	}
+
+	@Test
+	@DisplayName("재생이 끝난 방은 영상 정보가 조회되지 않는다")
+	void deleteNowPlaying() {
+		// given
+		Video video = Video.builder()
+			.videoNumber(1L)
+			.videoId("videoId")
+			.duration(100000)
+			.videoTitle("title")
+			.thumbnail("thumbnail")
+			.build();
+		playingVideoStorage.saveAndPlay(new PlayingDefaultVideo("room1", video, messageService, playlistService));
+
+		// when
+		playingVideoStorage.delete("room1");
+
+		// then
+		assertThat(nowPlayingStorage.findAllById(List.of("room1"))).isEmpty();
+	}
+
+}
@@ -20,6 +20,7 @@ import site.youtogether.exception.playlist.InvalidVideoOrderException;
 import site.youtogether.exception.playlist.PlaylistEmptyException;
 import site.youtogether.exception.playlist.PlaylistLockAcquisitionFailureException;
 import site.youtogether.exception.user.VideoEditDeniedException;
+import site.youtogether.jwt.VerifiedToken;
 import site.youtogether.playlist.dto.NextVideo;
 import site.youtogether.playlist.dto.PlaylistAddForm;
 import site.youtogether.playlist.dto.VideoOrder;
@@ -36,8 +37,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 		PlaylistAddForm form = new PlaylistAddForm("TXI1npEFNss", "What a beautiful song by Sia ❤️ #snowman", "Raymond Salgado",
 			"https://i.ytimg.com/vi/TXI1npEFNss/hqdefault.jpg", "PT1M21S");
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doNothing()
@@ -81,8 +82,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 		PlaylistAddForm form = new PlaylistAddForm("TXI1npEFNss", "What a beautiful song by Sia ❤️ #snowman", "Raymond Salgado",
 			"https://i.ytimg.com/vi/TXI1npEFNss/hqdefault.jpg", "PT1M21S");
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doThrow(new VideoEditDeniedException())
@@ -128,8 +129,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 		Cookie sessionCookie = new Cookie(cookieProperties.getName(), token);
 		NextVideo nextVideo = new NextVideo(12L);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doNothing()
@@ -168,8 +169,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 		Cookie sessionCookie = new Cookie(cookieProperties.getName(), token);
 		NextVideo nextVideo = new NextVideo(12L);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doThrow(new VideoEditDeniedException())
@@ -211,8 +212,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 		Cookie sessionCookie = new Cookie(cookieProperties.getName(), token);
 		NextVideo nextVideo = new NextVideo(12L);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		;
@@ -255,8 +256,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 		Cookie sessionCookie = new Cookie(cookieProperties.getName(), token);
 		Long videoNumber = 15L;
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doNothing()
@@ -290,8 +291,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 		Cookie sessionCookie = new Cookie(cookieProperties.getName(), token);
 		Long videoNumber = 15L;
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doThrow(new InvalidVideoOrderException())
@@ -329,8 +330,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 
 		VideoOrder videoOrder = new VideoOrder(0, 1);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doNothing()
@@ -371,8 +372,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 
 		VideoOrder videoOrder = new VideoOrder(0, 1);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doThrow(new InvalidVideoOrderException())
@@ -416,8 +417,8 @@ class PlaylistControllerTest extends RestDocsSupport {
 
 		VideoOrder videoOrder = new VideoOrder(0, 1);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		doThrow(new PlaylistLockAcquisitionFailureException())
@@ -8,9 +8,8 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import site.youtogether.exception.room.PasswordNotMatchException;
-import site.youtogether.exception.room.RoomCapacityExceededException;
 import site.youtogether.exception.user.ChangeRoomTitleDeniedException;
+import site.youtogether.user.Role;
 import site.youtogether.user.User;
 import site.youtogether.util.RandomUtil;
 
@@ -20,10 +19,9 @@ class RoomTest {
 	@DisplayName("HOST는 현재 참여 중인 방의 제목을 변경할 수 있다")
 	void changeRoomTitleSuccess() {
 		// given
-		User host = createUser(1L);
-		Room room = createRoom(host, null, 5);
-		host.enterRoom(room.getCode());
-		room.enter(null);
+		String roomCode = RandomUtil.generateRandomCode(ROOM_CODE_LENGTH);
+		User host = createUser(1L, roomCode, Role.HOST);
+		Room room = createRoom(roomCode, null, 5);
 
 		String originTitle = room.getTitle();
 		String newTitle = "new title";
@@ -40,12 +38,9 @@ class RoomTest {
 	@DisplayName("HOST가 아닌 유저는 방 제목을 변경할 수 없다")
 	void changeRoomTitleFail() {
 		// given
-		User host = createUser(1L);
-		Room room = createRoom(host, null, 5);
-
-		User user = createUser(2L);
-		user.enterRoom(room.getCode());
-		room.enter(null);
+		String roomCode = RandomUtil.generateRandomCode(ROOM_CODE_LENGTH);
+		Room room = createRoom(roomCode, null, 5);
+		User user = createUser(2L, roomCode, Role.GUEST);
 
 		String newTitle = "new title";
 
@@ -55,54 +50,20 @@ class RoomTest {
 	}
 
 	@Test
-	@DisplayName("비밀번호가 일치하면 방에 입장할 수 있다")
-	void enterPasswordSuccess() {
+	@DisplayName("인원 수가 갱신되면 남은 자리 수도 갱신된다")
+	void remainingCapacity() {
 		// given
-		User host = createUser(1L);
-
-		String password = "room password";
-		Room room = createRoom(host, password, 5);
+		Room room = createRoom(RandomUtil.generateRandomCode(ROOM_CODE_LENGTH), null, 5);
 
 		// when
-		room.enter(password);
+		room.updateParticipantCount(1);
 
 		// then
-		assertThat(room.getParticipantCount()).isEqualTo(1);
-	}
-
-	@Test
-	@DisplayName("비밀번호가 일치하지 않으면 방에 입장할 수 없다")
-	void enterPasswordFail() {
-		// given
-		User host = createUser(1L);
-
-		String password = "room password";
-		Room room = createRoom(host, "wrong password", 5);
-
-		// when / then
-		assertThatThrownBy(() -> room.enter(password))
-			.isInstanceOf(PasswordNotMatchException.class);
+		assertThat(room.getRemainingCapacity()).isEqualTo(4);
+		assertThat(room.isPasswordExist()).isFalse();
 	}
 
-	@Test
-	@DisplayName("정원을 초과하여 방에 입장할 수 없다")
-	void test() {
-		// given
-		User host = createUser(1L);
-
-		String password = "room password";
-		Room room = createRoom(host, password, 1);
-		room.enter(password);
-
-		// when / then
-		assertThatThrownBy(() -> room.enter(password))
-			.isInstanceOf(RoomCapacityExceededException.class);
-	}
-
-	private Room createRoom(User host, String password, int capacity) {
-		String roomCode = RandomUtil.generateRandomCode(ROOM_CODE_LENGTH);
-		host.createRoom(roomCode);
-
+	private Room createRoom(String roomCode, String password, int capacity) {
 		return Room.builder()
 			.code(roomCode)
 			.title("황똥땡의 방")
@@ -112,11 +73,14 @@ class RoomTest {
 			.build();
 	}
 
-	private User createUser(Long userId) {
-		return User.builder()
+	private User createUser(Long userId, String roomCode, Role role) {
+		User user = User.builder()
 			.id(userId)
 			.nickname("황똥땡")
+			.currentRoomCode(roomCode)
 			.build();
+		user.getHistory().put(roomCode, role);
+		return user;
 	}
 
 }
@@ -0,0 +1,84 @@
+package site.youtogether.room.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import site.youtogether.message.LobbyChange;
+import site.youtogether.message.LobbyChange.ChangeKind;
+import site.youtogether.message.LobbyMessage;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.playlist.infrastructure.NowPlayingStorage;
+import site.youtogether.room.Room;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
+import site.youtogether.room.infrastructure.ParticipantCountStorage;
+import site.youtogether.room.infrastructure.RoomStorage;
+
+class LobbyBroadcasterTest {
+
+	private final RoomStorage roomStorage = mock(RoomStorage.class);
+	private final NowPlayingStorage nowPlayingStorage = mock(NowPlayingStorage.class);
+	private final ParticipantCountStorage participantCountStorage = mock(ParticipantCountStorage.class);
+	private final MessageService messageService = mock(MessageService.class);
+	private final LobbyBroadcaster lobbyBroadcaster = new LobbyBroadcaster(roomStorage, nowPlayingStorage, participantCountStorage, messageService);
+
+	@Test
+	@DisplayName("한 주기 동안 같은 방에서 발생한 변경은 하나로 합쳐 전송한다")
+	void coalesceChanges() {
+		// given
+		Room created = createRoom("created");
+		Room updated = createRoom("updated");
+		given(roomStorage.findAllById(anyIterable())).willReturn(List.of(created, updated));
+		given(nowPlayingStorage.findAllById(anyList())).willReturn(Map.of());
+
+		lobbyBroadcaster.handleRoomChanged(new RoomChangedEvent("created", ChangeType.CREATED));
+		lobbyBroadcaster.handleRoomChanged(new RoomChangedEvent("created", ChangeType.ENTERED));
+		lobbyBroadcaster.handleRoomChanged(new RoomChangedEvent("updated", ChangeType.ENTERED));
+		lobbyBroadcaster.handleRoomChanged(new RoomChangedEvent("updated", ChangeType.LEFT));
+		lobbyBroadcaster.handleRoomChanged(new RoomChangedEvent("closed", ChangeType.NOW_PLAYING_CHANGED));
+		lobbyBroadcaster.handleRoomChanged(new RoomChangedEvent("closed", ChangeType.CLOSED));
+
+		// when
+		lobbyBroadcaster.flush();
+
+		// then
+		ArgumentCaptor<LobbyMessage> captor = ArgumentCaptor.forClass(LobbyMessage.class);
+		then(messageService).should(times(1)).sendLobbyChanges(captor.capture());
+
+		assertThat(captor.getValue().getChanges())
+			.extracting(LobbyChange::getRoomCode, LobbyChange::getKind)
+			.containsExactlyInAnyOrder(
+				tuple("created", ChangeKind.CREATED),
+				tuple("updated", ChangeKind.UPDATED),
+				tuple("closed", ChangeKind.CLOSED)
+			);
+	}
+
+	@Test
+	@DisplayName("변경된 방이 없으면 로비에 전송하지 않는다")
+	void flushNothing() {
+		// when
+		lobbyBroadcaster.flush();
+
+		// then
+		then(messageService).should(never()).sendLobbyChanges(any());
+	}
+
+	private Room createRoom(String code) {
+		return Room.builder()
+			.code(code)
+			.title("title")
+			.capacity(10)
+			.createdAt(LocalDateTime.of(2024, 4, 6, 12, 0, 0))
+			.activate(true)
+			.build();
+	}
+
+}
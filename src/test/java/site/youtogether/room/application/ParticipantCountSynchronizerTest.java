@@ -0,0 +1,44 @@
+package site.youtogether.room.application;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.youtogether.room.infrastructure.ParticipantCountStorage;
+
+class ParticipantCountSynchronizerTest {
+
+	private final ParticipantCountStorage participantCountStorage = mock(ParticipantCountStorage.class);
+	private final RoomListCache roomListCache = mock(RoomListCache.class);
+	private final ParticipantCountSynchronizer participantCountSynchronizer = new ParticipantCountSynchronizer(participantCountStorage,
+		roomListCache);
+
+	@Test
+	@DisplayName("참가자 수가 방에 반영되면 방 목록 캐시를 비운다")
+	void clearRoomListCache() {
+		// given
+		given(participantCountStorage.sync(anyInt())).willReturn(200L, 3L);
+
+		// when
+		participantCountSynchronizer.sync();
+
+		// then
+		then(participantCountStorage).should(times(2)).sync(anyInt());
+		then(roomListCache).should().clear();
+	}
+
+	@Test
+	@DisplayName("반영할 참가자 수가 없으면 방 목록 캐시를 유지한다")
+	void keepRoomListCache() {
+		// given
+		given(participantCountStorage.sync(anyInt())).willReturn(0L);
+
+		// when
+		participantCountSynchronizer.sync();
+
+		// then
+		then(roomListCache).should(never()).clear();
+	}
+
+}
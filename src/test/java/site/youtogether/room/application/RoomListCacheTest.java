@@ -0,0 +1,136 @@
+package site.youtogether.room.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.youtogether.config.property.RoomProperties;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
+import site.youtogether.room.dto.RoomList;
+
+class RoomListCacheTest {
+
+	private final RoomListCache roomListCache = new RoomListCache(new RoomProperties(Duration.ofMinutes(1), Duration.ZERO, 100));
+
+	@Test
+	@DisplayName("같은 페이지를 다시 조회하면 캐시된 결과를 반환한다")
+	void getCached() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// when
+		RoomList first = roomListCache.get("0:10:", () -> createRoomList(loadCount));
+		RoomList second = roomListCache.get("0:10:", () -> createRoomList(loadCount));
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("방이 생기거나 사라지거나 제목이 바뀌면 캐시가 무효화된다")
+	void invalidateOnRoomChanged() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+		roomListCache.get("0:10:", () -> createRoomList(loadCount));
+
+		// when
+		roomListCache.handleRoomChanged(new RoomChangedEvent("roomCode", ChangeType.CREATED));
+		roomListCache.get("0:10:", () -> createRoomList(loadCount));
+		roomListCache.handleRoomChanged(new RoomChangedEvent("roomCode", ChangeType.TITLE_CHANGED));
+		roomListCache.get("0:10:", () -> createRoomList(loadCount));
+		roomListCache.handleRoomChanged(new RoomChangedEvent("roomCode", ChangeType.CLOSED));
+		roomListCache.get("0:10:", () -> createRoomList(loadCount));
+
+		// then
+		assertThat(loadCount).hasValue(4);
+	}
+
+	@Test
+	@DisplayName("참가자가 들어오거나 나가는 이벤트만으로는 캐시가 유지된다")
+	void keepOnParticipantChanged() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+		roomListCache.get("0:10:", () -> createRoomList(loadCount));
+
+		// when
+		roomListCache.handleRoomChanged(new RoomChangedEvent("roomCode", ChangeType.ENTERED));
+		roomListCache.handleRoomChanged(new RoomChangedEvent("roomCode", ChangeType.LEFT));
+		roomListCache.handleRoomChanged(new RoomChangedEvent("roomCode", ChangeType.NOW_PLAYING_CHANGED));
+		roomListCache.get("0:10:", () -> createRoomList(loadCount));
+
+		// then
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("동시에 들어온 같은 페이지 조회는 한 번만 조회한다")
+	void coalesceConcurrentLoads() throws Exception {
+		// given
+		int threadCount = 10;
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		// when
+		List<Future<RoomList>> results = new ArrayList<>();
+		results.add(executorService.submit(() -> roomListCache.get("0:10:", () -> {
+			loading.countDown();
+			await(release);
+			return createRoomList(loadCount);
+		})));
+		loading.await();
+		for (int i = 1; i < threadCount; i++) {
+			results.add(executorService.submit(() -> roomListCache.get("0:10:", () -> createRoomList(loadCount))));
+		}
+		release.countDown();
+
+		// then
+		for (Future<RoomList> result : results) {
+			assertThat(result.get()).isSameAs(results.get(0).get());
+		}
+		assertThat(loadCount).hasValue(1);
+		executorService.shutdown();
+	}
+
+	@Test
+	@DisplayName("조회에 실패한 결과는 캐시하지 않는다")
+	void notCacheFailure() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// when
+		assertThatThrownBy(() -> roomListCache.get("0:10:", () -> {
+			throw new IllegalStateException();
+		})).isInstanceOf(IllegalStateException.class);
+		roomListCache.get("0:10:", () -> createRoomList(loadCount));
+
+		// then
+		assertThat(loadCount).hasValue(1);
+	}
+
+	private RoomList createRoomList(AtomicInteger loadCount) {
+		loadCount.incrementAndGet();
+		return new RoomList(0, 10, false, null, new ArrayList<>());
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -4,6 +4,14 @@ import static org.assertj.core.api.Assertions.*;
 import static site.youtogether.util.AppConstants.*;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,13 +24,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import site.youtogether.IntegrationTestSupport;
+import site.youtogether.exception.room.InvalidRoomCursorException;
 import site.youtogether.exception.room.PasswordNotMatchException;
 import site.youtogether.exception.room.RoomCapacityExceededException;
 import site.youtogether.exception.user.UserNotEnteringException;
 import site.youtogether.message.ChatHistory;
+import site.youtogether.room.Participant;
 import site.youtogether.room.Room;
 import site.youtogether.room.dto.NewRoom;
+import site.youtogether.room.dto.ParticipantList;
 import site.youtogether.room.dto.RoomList;
+import site.youtogether.room.dto.RoomListDetail;
+import site.youtogether.room.dto.RoomSearchCondition;
+import site.youtogether.room.dto.RoomSearchCondition.RoomOrder;
 import site.youtogether.room.dto.RoomSettings;
 import site.youtogether.room.infrastructure.RoomStorage;
 import site.youtogether.user.Role;
@@ -43,6 +57,12 @@ class RoomServiceTest extends IntegrationTestSupport {
 	@Autowired
 	private UserStorage userStorage;
 
+	@Autowired
+	private ParticipantCountSynchronizer participantCountSynchronizer;
+
+	@Autowired
+	private RoomListCache roomListCache;
+
 	@Autowired
 	private RedisTemplate<String, ChatHistory> redisTemplate;
 
@@ -51,6 +71,12 @@ class RoomServiceTest extends IntegrationTestSupport {
 		roomStorage.deleteAll();
 		userStorage.deleteAll();
 		redisTemplate.delete(redisTemplate.keys(CHAT_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(PARTICIPANT_COUNT_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_MEMBER_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_PRIVILEGED_MEMBER_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_MEMBER_ORDER_PREFIX + "*"));
+		redisTemplate.delete(DIRTY_ROOM_SET);
+		roomListCache.clear();                           // 저장소에 직접 넣은 방이 이전 테스트의 캐시에 가려지지 않도록
 	}
 
 	@Test
@@ -100,9 +126,9 @@ class RoomServiceTest extends IntegrationTestSupport {
 		PageRequest pageRequest = PageRequest.of(0, 3);
 
 		// when
-		RoomList roomList1 = roomService.fetchAll(pageRequest, null);
-		RoomList roomList2 = roomService.fetchAll(pageRequest, "");
-		RoomList roomList3 = roomService.fetchAll(pageRequest, "바 ");
+		RoomList roomList1 = roomService.fetchAll(pageRequest, new RoomSearchCondition(), null);
+		RoomList roomList2 = roomService.fetchAll(pageRequest, searchByKeyword(""), null);
+		RoomList roomList3 = roomService.fetchAll(pageRequest, searchByKeyword("바 "), null);
 
 		// then
 		assertThat(roomList1.getRooms()).extracting("roomTitle").containsExactly(
@@ -119,6 +145,97 @@ class RoomServiceTest extends IntegrationTestSupport {
 		assertThat(roomList3.isHasNext()).isFalse();
 	}
 
+	@Test
+	@DisplayName("다음 페이지 커서로 방 목록을 이어서 조회할 수 있다")
+	void fetchRoomSliceByCursor() throws Exception {
+		// given
+		LocalDateTime sameTime = LocalDateTime.of(2024, 4, 6, 12, 0, 5);
+		Room room1 = createRoom(LocalDateTime.of(2024, 4, 6, 12, 0, 0), "가똥댕의 방");
+		Room room2 = createRoom(sameTime, "나똥댕의 방");
+		Room room3 = createRoom(sameTime, "다똥댕의 방");
+		Room room4 = createRoom(sameTime, "라똥댕의 방");
+		Room room5 = createRoom(LocalDateTime.of(2024, 4, 6, 12, 0, 9), "마똥댕의 방");
+
+		PageRequest pageRequest = PageRequest.of(0, 2);
+
+		// when
+		RoomList roomList1 = roomService.fetchAll(pageRequest, new RoomSearchCondition(), null);
+		RoomList roomList2 = roomService.fetchAll(pageRequest, new RoomSearchCondition(), roomList1.getNextCursor());
+		RoomList roomList3 = roomService.fetchAll(pageRequest, new RoomSearchCondition(), roomList2.getNextCursor());
+
+		// then
+		List<String> sameTimeCodes = Stream.of(room2, room3, room4)
+			.map(Room::getCode)
+			.sorted(Comparator.reverseOrder())
+			.toList();
+
+		assertThat(roomList1.getRooms()).extracting("roomCode").containsExactly(room5.getCode(), sameTimeCodes.get(0));
+		assertThat(roomList1.isHasNext()).isTrue();
+
+		assertThat(roomList2.getRooms()).extracting("roomCode").containsExactly(sameTimeCodes.get(1), sameTimeCodes.get(2));
+		assertThat(roomList2.isHasNext()).isTrue();
+
+		assertThat(roomList3.getRooms()).extracting("roomCode").containsExactly(room1.getCode());
+		assertThat(roomList3.isHasNext()).isFalse();
+		assertThat(roomList3.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 커서로 방 목록을 조회할 수 없다")
+	void fetchRoomSliceByInvalidCursor() throws Exception {
+		// given
+		PageRequest pageRequest = PageRequest.of(0, 2);
+
+		// when // then
+		assertThatThrownBy(() -> roomService.fetchAll(pageRequest, new RoomSearchCondition(), "invalid-cursor"))
+			.isInstanceOf(InvalidRoomCursorException.class);
+	}
+
+	@Test
+	@DisplayName("참여자가 많은 순으로 방 목록을 조회할 수 있다")
+	void fetchRoomSliceOrderByPopular() throws Exception {
+		// given
+		Room room1 = createRoomWithParticipants(LocalDateTime.of(2024, 4, 6, 12, 0, 0), "가똥댕의 방", 10, null, 3);
+		Room room2 = createRoomWithParticipants(LocalDateTime.of(2024, 4, 6, 12, 0, 1), "나똥댕의 방", 10, null, 7);
+		Room room3 = createRoomWithParticipants(LocalDateTime.of(2024, 4, 6, 12, 0, 2), "다똥댕의 방", 10, null, 1);
+		Room room4 = createRoomWithParticipants(LocalDateTime.of(2024, 4, 6, 12, 0, 3), "라똥댕의 방", 10, null, 5);
+
+		RoomSearchCondition condition = new RoomSearchCondition(null, RoomOrder.POPULAR, false, false);
+
+		// when
+		RoomList roomList1 = roomService.fetchAll(PageRequest.of(0, 2), condition, null);
+		RoomList roomList2 = roomService.fetchAll(PageRequest.of(1, 2), condition, null);
+
+		// then
+		assertThat(roomList1.getRooms()).extracting("roomCode").containsExactly(room2.getCode(), room4.getCode());
+		assertThat(roomList1.isHasNext()).isTrue();
+		assertThat(roomList1.getNextCursor()).isNull();
+
+		assertThat(roomList2.getRooms()).extracting("roomCode").containsExactly(room1.getCode(), room3.getCode());
+		assertThat(roomList2.isHasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("빈 자리가 있는 방과 비밀번호가 없는 방만 조회할 수 있다")
+	void fetchRoomSliceOnlyAvailableAndPublic() throws Exception {
+		// given
+		Room fullRoom = createRoomWithParticipants(LocalDateTime.of(2024, 4, 6, 12, 0, 0), "가똥댕의 방", 2, null, 2);
+		Room passwordRoom = createRoomWithParticipants(LocalDateTime.of(2024, 4, 6, 12, 0, 1), "나똥댕의 방", 10, "1234", 1);
+		Room openRoom = createRoomWithParticipants(LocalDateTime.of(2024, 4, 6, 12, 0, 2), "다똥댕의 방", 10, null, 1);
+
+		PageRequest pageRequest = PageRequest.of(0, 10);
+
+		// when
+		RoomList availableRooms = roomService.fetchAll(pageRequest, new RoomSearchCondition(null, RoomOrder.LATEST, true, false), null);
+		RoomList publicRooms = roomService.fetchAll(pageRequest, new RoomSearchCondition(null, RoomOrder.LATEST, false, true), null);
+		RoomList availablePublicRooms = roomService.fetchAll(pageRequest, new RoomSearchCondition(null, RoomOrder.LATEST, true, true), null);
+
+		// then
+		assertThat(availableRooms.getRooms()).extracting("roomCode").containsExactly(openRoom.getCode(), passwordRoom.getCode());
+		assertThat(publicRooms.getRooms()).extracting("roomCode").containsExactly(openRoom.getCode(), fullRoom.getCode());
+		assertThat(availablePublicRooms.getRooms()).extracting("roomCode").containsExactly(openRoom.getCode());
+	}
+
 	// TODO: 최종 배포 전 주석 해제하기
 	// @Test
 	// @DisplayName("빈 방은 목록 조회 시 포함하지 않는다")
@@ -132,7 +249,7 @@ class RoomServiceTest extends IntegrationTestSupport {
 	// 	PageRequest pageRequest = PageRequest.of(0, 5);
 	//
 	// 	// when
-	// 	RoomList roomList = roomService.fetchAll(pageRequest, null);
+	// 	RoomList roomList = roomService.fetchAll(pageRequest, new RoomSearchCondition(), null);
 	//
 	// 	// then
 	// 	assertThat(roomList.getRooms()).hasSize(2);
@@ -149,6 +266,7 @@ class RoomServiceTest extends IntegrationTestSupport {
 		roomService.enter(room.getCode(), user.getId(), null);
 
 		// then
+		participantCountSynchronizer.sync();
 		Room savedRoom = roomStorage.findById(room.getCode()).get();
 		User savedUser = userStorage.findById(user.getId()).get();
 
@@ -170,6 +288,7 @@ class RoomServiceTest extends IntegrationTestSupport {
 		roomService.enter(room.getCode(), user.getId(), password);
 
 		// then
+		participantCountSynchronizer.sync();
 		Room savedRoom = roomStorage.findById(room.getCode()).get();
 		User savedUser = userStorage.findById(user.getId()).get();
 
@@ -210,6 +329,86 @@ class RoomServiceTest extends IntegrationTestSupport {
 			.isInstanceOf(RoomCapacityExceededException.class);
 	}
 
+	@Test
+	@DisplayName("동시에 입장해도 정원까지만 입장한다")
+	void enterRoomConcurrently() throws Exception {
+		// given
+		int capacity = 5;
+		int userCount = 20;
+		Room room = createEmptyRoom(LocalDateTime.of(2024, 4, 10, 11, 37, 0), "황똥땡의 방", capacity);
+		List<User> users = LongStream.rangeClosed(1, userCount)
+			.mapToObj(this::createUser)
+			.toList();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(userCount);
+		CountDownLatch latch = new CountDownLatch(userCount);
+		AtomicInteger exceededCount = new AtomicInteger();
+
+		// when
+		for (User user : users) {
+			executorService.submit(() -> {
+				try {
+					roomService.enter(room.getCode(), user.getId(), null);
+				} catch (RoomCapacityExceededException e) {
+					exceededCount.incrementAndGet();
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+		executorService.shutdown();
+
+		// then
+		participantCountSynchronizer.sync();
+		Room savedRoom = roomStorage.findById(room.getCode()).get();
+		assertThat(savedRoom.getParticipantCount()).isEqualTo(capacity);
+		assertThat(savedRoom.getRemainingCapacity()).isZero();
+		assertThat(exceededCount).hasValue(userCount - capacity);
+	}
+
+	@Test
+	@DisplayName("입장한 인원 수는 방 문서에 동기화되기 전에도 방 목록에 반영된다")
+	void fetchParticipantCountBeforeSync() throws Exception {
+		// given
+		Room room = createEmptyRoom(LocalDateTime.of(2024, 4, 10, 11, 37, 0), "황똥땡의 방");
+		User user = createUser(3L);
+		roomService.enter(room.getCode(), user.getId(), null);
+
+		// when
+		RoomList roomList = roomService.fetchAll(PageRequest.of(0, 10), new RoomSearchCondition(), null);
+
+		// then
+		assertThat(roomList.getRooms()).hasSize(1)
+			.extracting(RoomListDetail::getCurrentParticipant)
+			.containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("입장한 방의 참여자 목록을 페이지 단위로 조회한다")
+	void fetchParticipants() throws Exception {
+		// given
+		Room room = createEmptyRoom(LocalDateTime.of(2024, 4, 10, 11, 37, 0), "황똥땡의 방");
+		for (long userId = 1; userId <= 5; userId++) {
+			createUser(userId);
+			roomService.enter(room.getCode(), userId, null);
+		}
+
+		// when
+		ParticipantList firstPage = roomService.fetchParticipants(1L, 0, 2);
+		ParticipantList lastPage = roomService.fetchParticipants(1L, 2, 2);
+
+		// then
+		assertThat(firstPage.getParticipantCount()).isEqualTo(5);
+		assertThat(firstPage.isHasNext()).isTrue();
+		assertThat(firstPage.getParticipants()).extracting(Participant::getUserId)
+			.containsExactly(1L, 2L);
+
+		assertThat(lastPage.isHasNext()).isFalse();
+		assertThat(lastPage.getParticipants()).extracting(Participant::getUserId)
+			.containsExactly(5L);
+	}
+
 	@Test
 	@DisplayName("방을 떠난다")
 	void leaveRoom() throws Exception {
@@ -222,6 +421,7 @@ class RoomServiceTest extends IntegrationTestSupport {
 		roomService.leave(user.getId());
 
 		// then
+		participantCountSynchronizer.sync();
 		Room savedRoom = roomStorage.findById(room.getCode()).get();
 		User savedUser = userStorage.findById(user.getId()).get();
 
@@ -238,9 +438,12 @@ class RoomServiceTest extends IntegrationTestSupport {
 	void changeRoom() throws Exception {
 		// given
 		Room room = createEmptyRoom(LocalDateTime.of(2024, 4, 10, 11, 37, 0), "황똥땡의 방", 5);
-		User host = createUser(HOST_ID);
+		User host = User.builder()
+			.id(HOST_ID)
+			.nickname("황츠비")
+			.currentRoomCode(room.getCode())
+			.build();
 		host.createRoom(room.getCode());
-		host.enterRoom(room.getCode());
 		userStorage.save(host);
 
 		String updateTitle = "연똥땡의 방";
@@ -325,7 +528,7 @@ class RoomServiceTest extends IntegrationTestSupport {
 			.createdAt(createTime)
 			.capacity(10)
 			.build();
-		room.enter(null);
+		room.updateParticipantCount(1);
 		roomStorage.save(room);
 
 		return room;
@@ -358,4 +561,22 @@ class RoomServiceTest extends IntegrationTestSupport {
 		return room;
 	}
 
+	private Room createRoomWithParticipants(LocalDateTime createTime, String title, int capacity, String password, int participantCount) {
+		Room room = Room.builder()
+			.code(RandomUtil.generateRandomCode(ROOM_CODE_LENGTH))
+			.title(title)
+			.password(password)
+			.createdAt(createTime)
+			.capacity(capacity)
+			.build();
+		room.updateParticipantCount(participantCount);
+		roomStorage.save(room);
+
+		return room;
+	}
+
+	private RoomSearchCondition searchByKeyword(String keyword) {
+		return new RoomSearchCondition(keyword, RoomOrder.LATEST, false, false);
+	}
+
 }
@@ -0,0 +1,216 @@
+package site.youtogether.room.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import site.youtogether.IntegrationTestSupport;
+import site.youtogether.room.Participant;
+import site.youtogether.room.Room;
+import site.youtogether.room.application.RoomService;
+import site.youtogether.user.Role;
+import site.youtogether.user.User;
+import site.youtogether.user.infrastructure.UserStorage;
+
+class RoomMemberStorageTest extends IntegrationTestSupport {
+
+	private static final String ROOM_CODE = "memberRoom";
+
+	@Autowired
+	private RoomMemberStorage roomMemberStorage;
+
+	@Autowired
+	private RoomService roomService;
+
+	@Autowired
+	private RoomStorage roomStorage;
+
+	@Autowired
+	private UserStorage userStorage;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@AfterEach
+	void clean() {
+		roomStorage.deleteAll();
+		userStorage.deleteAll();
+		redisTemplate.delete(redisTemplate.keys(PARTICIPANT_COUNT_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_MEMBER_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_PRIVILEGED_MEMBER_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_MEMBER_ORDER_PREFIX + "*"));
+		redisTemplate.delete(DIRTY_ROOM_SET);
+	}
+
+	@Test
+	@DisplayName("입장한 유저는 역할 순으로 멤버 목록에 추가된다")
+	void enterAddsMember() {
+		// given
+		createRoom();
+		User host = createUser(1L, "황똥땡");
+		host.createRoom(ROOM_CODE);
+		userStorage.save(host);
+		User guest = createUser(2L, "연|똥땡");
+
+		// when
+		roomService.enter(ROOM_CODE, guest.getId(), null);
+		roomService.enter(ROOM_CODE, host.getId(), null);
+
+		// then
+		assertThat(roomMemberStorage.findAll(ROOM_CODE))
+			.extracting(Participant::getUserId, Participant::getNickname, Participant::getRole)
+			.containsExactly(
+				tuple(1L, "황똥땡", Role.HOST),
+				tuple(2L, "연|똥땡", Role.GUEST)
+			);
+	}
+
+	@Test
+	@DisplayName("퇴장한 유저는 멤버 목록에서 제거되고, 이후의 변경으로 다시 추가되지 않는다")
+	void leaveRemovesMember() {
+		// given
+		createRoom();
+		User user = createUser(1L, "황똥땡");
+		roomService.enter(ROOM_CODE, user.getId(), null);
+
+		// when
+		roomService.leave(user.getId());
+		roomMemberStorage.update(ROOM_CODE, new Participant(1L, "연똥땡", Role.GUEST));
+
+		// then
+		assertThat(roomMemberStorage.findAll(ROOM_CODE)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("멤버의 닉네임, 역할 변경을 반영한다")
+	void updateMember() {
+		// given
+		createRoom();
+		User user = createUser(1L, "황똥땡");
+		roomService.enter(ROOM_CODE, user.getId(), null);
+
+		// when
+		roomMemberStorage.update(ROOM_CODE, new Participant(1L, "연똥땡", Role.EDITOR));
+
+		// then
+		assertThat(roomMemberStorage.findAll(ROOM_CODE))
+			.extracting(Participant::getNickname, Participant::getRole)
+			.containsExactly(tuple("연똥땡", Role.EDITOR));
+	}
+
+	@Test
+	@DisplayName("HOST, MANAGER, EDITOR 멤버만 조회한다")
+	void findPrivileged() {
+		// given
+		roomMemberStorage.backfill(ROOM_CODE, List.of(
+			new Participant(createUserInRoom(1L, "황똥땡"), "황똥땡", Role.HOST),
+			new Participant(createUserInRoom(2L, "연똥땡"), "연똥땡", Role.VIEWER),
+			new Participant(createUserInRoom(3L, "황츠비"), "황츠비", Role.EDITOR),
+			new Participant(createUserInRoom(4L, "연츠비"), "연츠비", Role.GUEST)
+		));
+
+		// when
+		List<Participant> privileged = roomMemberStorage.findPrivileged(ROOM_CODE);
+
+		// then
+		assertThat(roomMemberStorage.count(ROOM_CODE)).isEqualTo(4);
+		assertThat(privileged)
+			.extracting(Participant::getUserId, Participant::getRole)
+			.containsExactly(
+				tuple(1L, Role.HOST),
+				tuple(3L, Role.EDITOR)
+			);
+	}
+
+	@Test
+	@DisplayName("역할이 바뀐 멤버는 역할 순 페이지와 HOST, MANAGER, EDITOR 목록에 반영되고, 퇴장하면 모두에서 제거된다")
+	void findPageByRole() {
+		// given
+		createRoom();
+		for (long userId = 1; userId <= 4; userId++) {
+			roomService.enter(ROOM_CODE, createUser(userId, "유저" + userId).getId(), null);
+		}
+
+		// when
+		roomMemberStorage.update(ROOM_CODE, new Participant(3L, "유저3", Role.EDITOR));
+		roomService.leave(2L);
+
+		// then
+		assertThat(roomMemberStorage.findPage(ROOM_CODE, 0, 2))
+			.extracting(Participant::getUserId, Participant::getRole)
+			.containsExactly(
+				tuple(3L, Role.EDITOR),
+				tuple(1L, Role.GUEST)
+			);
+		assertThat(roomMemberStorage.findPage(ROOM_CODE, 2, 2))
+			.extracting(Participant::getUserId)
+			.containsExactly(4L);
+		assertThat(roomMemberStorage.findPrivileged(ROOM_CODE))
+			.extracting(Participant::getUserId)
+			.containsExactly(3L);
+	}
+
+	@Test
+	@DisplayName("검색 이후에 퇴장한 유저는 채우지 않고, 입장 스크립트가 기록한 멤버는 덮어쓰지 않는다")
+	void backfillOnlyRemainingMembers() {
+		// given
+		createRoom();
+		createUserInRoom(1L, "황똥땡");
+		createUser(2L, "연똥땡");
+		User user = createUser(3L, "황츠비");
+		roomService.enter(ROOM_CODE, user.getId(), null);
+
+		// when
+		roomMemberStorage.backfill(ROOM_CODE, List.of(
+			new Participant(1L, "황똥땡", Role.HOST),
+			new Participant(2L, "연똥땡", Role.GUEST),
+			new Participant(3L, "황츠비", Role.EDITOR)
+		));
+
+		// then
+		assertThat(roomMemberStorage.findAll(ROOM_CODE))
+			.extracting(Participant::getUserId, Participant::getRole)
+			.containsExactly(
+				tuple(1L, Role.HOST),
+				tuple(3L, Role.GUEST)
+			);
+	}
+
+	private void createRoom() {
+		Room room = Room.builder()
+			.code(ROOM_CODE)
+			.title("황똥땡의 방")
+			.capacity(10)
+			.createdAt(LocalDateTime.of(2024, 4, 10, 11, 37, 0))
+			.build();
+		roomStorage.save(room);
+	}
+
+	private User createUser(Long userId, String nickname) {
+		User user = User.builder()
+			.id(userId)
+			.nickname(nickname)
+			.build();
+		userStorage.save(user);
+		return user;
+	}
+
+	private Long createUserInRoom(Long userId, String nickname) {
+		User user = User.builder()
+			.id(userId)
+			.nickname(nickname)
+			.currentRoomCode(ROOM_CODE)
+			.build();
+		userStorage.save(user);
+		return userId;
+	}
+
+}
@@ -0,0 +1,103 @@
+package site.youtogether.room.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import site.youtogether.IntegrationTestSupport;
+import site.youtogether.room.Room;
+import site.youtogether.room.dto.RoomSearchCondition;
+import site.youtogether.room.dto.RoomSearchCondition.RoomOrder;
+
+/**
+ * measures each room list view over 100k rooms, run with BENCHMARK=true
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class RoomSearchBenchmarkTest extends IntegrationTestSupport {
+
+	private static final int ROOM_COUNT = 100_000;
+	private static final int BATCH_SIZE = 1_000;
+	private static final int WARM_UP = 20;
+	private static final int ITERATIONS = 200;
+	private static final int PAGE_SIZE = 10;
+
+	@Autowired
+	private RoomStorage roomStorage;
+
+	@AfterEach
+	void clean() {
+		roomStorage.deleteAll();
+	}
+
+	@Test
+	@DisplayName("방 10만 개에서 정렬과 필터 조합마다 한 페이지를 조회하는 시간을 측정한다")
+	void searchViews() {
+		// given
+		seedRooms();
+
+		// when & then
+		measure("latest", new RoomSearchCondition(null, RoomOrder.LATEST, false, false));
+		measure("popular", new RoomSearchCondition(null, RoomOrder.POPULAR, false, false));
+		measure("available", new RoomSearchCondition(null, RoomOrder.LATEST, true, false));
+		measure("public", new RoomSearchCondition(null, RoomOrder.LATEST, false, true));
+		measure("popular available public", new RoomSearchCondition(null, RoomOrder.POPULAR, true, true));
+	}
+
+	private void seedRooms() {
+		Random random = new Random(42);
+		LocalDateTime createdAt = LocalDateTime.of(2024, 4, 6, 0, 0);
+		List<Room> rooms = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < ROOM_COUNT; i++) {
+			int capacity = 2 + random.nextInt(9);
+			Room room = Room.builder()
+				.code(String.format("bench%05d", i))
+				.title("benchmark room " + i)
+				.capacity(capacity)
+				.password(random.nextInt(3) == 0 ? "1234" : null)
+				.createdAt(createdAt.plusSeconds(i))
+				.activate(true)
+				.build();
+			room.updateParticipantCount(random.nextInt(capacity + 1));
+			rooms.add(room);
+
+			if (rooms.size() == BATCH_SIZE) {
+				roomStorage.saveAll(rooms);
+				rooms.clear();
+			}
+		}
+		roomStorage.saveAll(rooms);
+	}
+
+	private void measure(String view, RoomSearchCondition condition) {
+		PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+		for (int i = 0; i < WARM_UP; i++) {
+			roomStorage.findSliceBy(pageRequest, condition);
+		}
+
+		long[] elapsed = new long[ITERATIONS];
+		Slice<Room> slice = null;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long startedAt = System.nanoTime();
+			slice = roomStorage.findSliceBy(pageRequest, condition);
+			elapsed[i] = System.nanoTime() - startedAt;
+		}
+		Arrays.sort(elapsed);
+
+		System.out.printf("[room search benchmark] %-26s p50 %6.2fms  p99 %6.2fms  max %6.2fms%n", view,
+			elapsed[ITERATIONS / 2] / 1e6, elapsed[ITERATIONS * 99 / 100] / 1e6, elapsed[ITERATIONS - 1] / 1e6);
+		assertThat(slice.getContent()).hasSize(PAGE_SIZE);
+	}
+
+}
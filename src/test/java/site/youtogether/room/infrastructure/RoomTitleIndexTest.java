@@ -0,0 +1,130 @@
+package site.youtogether.room.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.youtogether.room.Room;
+import site.youtogether.room.application.RoomChangedEvent;
+import site.youtogether.room.application.RoomChangedEvent.ChangeType;
+import site.youtogether.room.dto.RoomTitleSuggestion;
+
+class RoomTitleIndexTest {
+
+	private final RoomStorage roomStorage = mock(RoomStorage.class);
+	private final RoomTitleIndex roomTitleIndex = new RoomTitleIndex(roomStorage);
+
+	@Test
+	@DisplayName("제목 시작 일치, 단어 시작 일치, 중간 일치 순으로 추천한다")
+	void suggestByRelevance() {
+		// given
+		roomTitleIndex.put("middle", "놀러온황똥땡의 방");
+		roomTitleIndex.put("word", "어서와 황똥땡의 공개방");
+		roomTitleIndex.put("prefix", "황똥땡의 공개방");
+		roomTitleIndex.put("other", "연똥땡의 방");
+
+		// when
+		List<RoomTitleSuggestion> suggestions = roomTitleIndex.suggest("황똥", 10);
+
+		// then
+		assertThat(suggestions).extracting(RoomTitleSuggestion::getRoomCode)
+			.containsExactly("prefix", "word", "middle");
+	}
+
+	@Test
+	@DisplayName("입력 중인 마지막 음절도 자모 단위로 일치하면 추천한다")
+	void suggestWhileComposingHangul() {
+		// given
+		roomTitleIndex.put("room", "황똥땡의 공개방");
+
+		// when / then
+		assertThat(roomTitleIndex.suggest("ㅎ", 10)).hasSize(1);
+		assertThat(roomTitleIndex.suggest("화", 10)).hasSize(1);
+		assertThat(roomTitleIndex.suggest("황또", 10)).hasSize(1);
+		assertThat(roomTitleIndex.suggest("황똥땡의 고", 10)).hasSize(1);
+		assertThat(roomTitleIndex.suggest("황똥땡의 곤", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("음절 중간에서 시작하는 자모는 일치로 보지 않는다")
+	void ignoreMatchInsideSyllable() {
+		// given
+		roomTitleIndex.put("room", "공개방");
+
+		// when
+		List<RoomTitleSuggestion> suggestions = roomTitleIndex.suggest("ㅇ", 10);
+
+		// then
+		assertThat(suggestions).isEmpty();
+	}
+
+	@Test
+	@DisplayName("영문 제목은 대소문자를 구분하지 않는다")
+	void suggestIgnoreCase() {
+		// given
+		roomTitleIndex.put("room", "Lofi Hip Hop Radio");
+
+		// when
+		List<RoomTitleSuggestion> suggestions = roomTitleIndex.suggest("hip h", 10);
+
+		// then
+		assertThat(suggestions).extracting(RoomTitleSuggestion::getRoomTitle)
+			.containsExactly("Lofi Hip Hop Radio");
+	}
+
+	@Test
+	@DisplayName("제목이 바뀌거나 방이 닫히면 색인에 반영한다")
+	void updateIndex() {
+		// given
+		roomTitleIndex.put("room", "황똥땡의 공개방");
+		roomTitleIndex.put("closed", "황똥땡의 비밀방");
+
+		// when
+		roomTitleIndex.put("room", "연똥땡의 방");
+		roomTitleIndex.handleRoomChanged(new RoomChangedEvent("closed", ChangeType.CLOSED));
+
+		// then
+		assertThat(roomTitleIndex.suggest("황똥", 10)).isEmpty();
+		assertThat(roomTitleIndex.suggest("연똥", 10)).extracting(RoomTitleSuggestion::getRoomCode)
+			.containsExactly("room");
+	}
+
+	@Test
+	@DisplayName("전체를 다시 색인하는 동안 들어온 변경도 새 색인에 반영한다")
+	void keepChangesDuringRebuild() {
+		// given
+		roomTitleIndex.put("closed", "황똥땡의 비밀방");
+		when(roomStorage.findAll()).thenAnswer(invocation -> {
+			roomTitleIndex.put("created", "황똥땡의 새 방");               // 저장소를 읽는 동안 생성된 방
+			roomTitleIndex.remove("closed");
+			return List.of(Room.builder().code("stored").title("황똥땡의 공개방").build());
+		});
+
+		// when
+		roomTitleIndex.rebuild();
+
+		// then
+		assertThat(roomTitleIndex.suggest("황똥", 10)).extracting(RoomTitleSuggestion::getRoomCode)
+			.containsExactlyInAnyOrder("stored", "created");
+	}
+
+	@Test
+	@DisplayName("요청한 개수만큼만 추천한다")
+	void suggestLimitedSize() {
+		// given
+		for (int i = 0; i < 20; i++) {
+			roomTitleIndex.put("room" + i, "황똥땡의 방 " + i);
+		}
+
+		// when
+		List<RoomTitleSuggestion> suggestions = roomTitleIndex.suggest("황똥땡", 5);
+
+		// then
+		assertThat(suggestions).hasSize(5);
+	}
+
+}
@@ -52,7 +52,7 @@ class UserServiceTest extends IntegrationTestSupport {
 		Room room = createRoom();
 		User user = createUser(room.getCode());
 
-		room.enter(null);
+		room.updateParticipantCount(1);
 		roomStorage.save(room);
 
 		String newNickname = "new nickname";
@@ -87,7 +87,7 @@ class UserServiceTest extends IntegrationTestSupport {
 		Room room = createRoom();
 		User user = createUser(room.getCode());
 
-		room.enter(null);
+		room.updateParticipantCount(1);
 		roomStorage.save(room);
 
 		UserRoleChangeForm userRoleChangeForm = new UserRoleChangeForm(user.getId(), Role.VIEWER);
@@ -133,7 +133,7 @@ class UserServiceTest extends IntegrationTestSupport {
 			.currentRoomCode(currentRoomCode)
 			.build();
 
-		user.enterRoom(currentRoomCode);
+		user.getHistory().put(currentRoomCode, Role.GUEST);
 		userStorage.save(user);
 
 		return user;
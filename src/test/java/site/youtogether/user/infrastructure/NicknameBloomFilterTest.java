@@ -0,0 +1,53 @@
+package site.youtogether.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NicknameBloomFilterTest {
+
+	private final NicknameBloomFilter nicknameFilter = new NicknameBloomFilter(10_000, 0.01);
+
+	@Test
+	@DisplayName("등록한 닉네임은 항상 있을 수 있다고 응답한다")
+	void mightContain() {
+		// when
+		for (int i = 0; i < 10_000; i++) {
+			nicknameFilter.put("nickname" + i);
+		}
+
+		// then
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(nicknameFilter.mightContain("nickname" + i)).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("등록하지 않은 닉네임을 있을 수 있다고 잘못 응답하는 비율은 설정한 비율 근처이다")
+	void falsePositiveRate() {
+		// given
+		for (int i = 0; i < 10_000; i++) {
+			nicknameFilter.put("nickname" + i);
+		}
+
+		// when
+		int falsePositiveCount = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (nicknameFilter.mightContain("absent" + i)) {
+				falsePositiveCount++;
+			}
+		}
+
+		// then
+		assertThat(falsePositiveCount / 100_000.0).isLessThan(0.02);
+	}
+
+	@Test
+	@DisplayName("비어 있는 필터는 어떤 닉네임도 없다고 응답한다")
+	void empty() {
+		// expect
+		assertThat(nicknameFilter.mightContain("nickname")).isFalse();
+	}
+
+}
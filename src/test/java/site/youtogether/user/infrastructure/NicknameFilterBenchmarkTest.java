@@ -0,0 +1,91 @@
+package site.youtogether.user.infrastructure;
+
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import site.youtogether.IntegrationTestSupport;
+
+/**
+ * measures how many nickname checks still reach Redis with the bloom filter, run with BENCHMARK=true
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class NicknameFilterBenchmarkTest extends IntegrationTestSupport {
+
+	private static final int[] STORED_COUNTS = {200_000, 500_000};
+	private static final int BATCH_SIZE = 1_000;
+	private static final int CHECK_COUNT = 100_000;
+
+	@Autowired
+	private UniqueNicknameStorage uniqueNicknameStorage;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@AfterEach
+	void clean() {
+		uniqueNicknameStorage.delete();
+	}
+
+	@Test
+	@DisplayName("사용 중이지 않은 닉네임을 확인할 때 Redis 까지 가는 비율과 확인 시간을 측정한다")
+	void checkAbsentNicknames() {
+		int seeded = 0;
+		for (int storedCount : STORED_COUNTS) {
+			// given
+			seeded = seedNicknames(seeded, storedCount);
+			uniqueNicknameStorage.rebuildFilter();
+
+			// when
+			double redisBefore = redisChecks();
+			long startedAt = System.nanoTime();
+			for (int i = 0; i < CHECK_COUNT; i++) {
+				uniqueNicknameStorage.exist("absent" + i);
+			}
+			long filteredNanos = System.nanoTime() - startedAt;
+			double redis = redisChecks() - redisBefore;
+
+			startedAt = System.nanoTime();
+			for (int i = 0; i < CHECK_COUNT; i++) {
+				redisTemplate.opsForSet().isMember(USER_NICKNAME_SET, "absent" + i);
+			}
+			long redisNanos = System.nanoTime() - startedAt;
+
+			// then
+			System.out.printf("[nickname filter benchmark] %,d stored  redis checks %.3f%%  filter %.2fus/check  redis only %.2fus/check%n",
+				storedCount, redis * 100 / CHECK_COUNT, filteredNanos / 1e3 / CHECK_COUNT, redisNanos / 1e3 / CHECK_COUNT);
+		}
+	}
+
+	private int seedNicknames(int from, int to) {
+		List<String> nicknames = new ArrayList<>(BATCH_SIZE);
+		for (int i = from; i < to; i++) {
+			nicknames.add("nickname" + i);
+			if (nicknames.size() == BATCH_SIZE) {
+				redisTemplate.opsForSet().add(USER_NICKNAME_SET, nicknames.toArray(String[]::new));
+				nicknames.clear();
+			}
+		}
+		if (!nicknames.isEmpty()) {
+			redisTemplate.opsForSet().add(USER_NICKNAME_SET, nicknames.toArray(String[]::new));
+		}
+		return to;
+	}
+
+	private double redisChecks() {
+		return meterRegistry.counter("nickname.checks", "result", "redis").count();
+	}
+
+}
@@ -0,0 +1,145 @@
+package site.youtogether.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import site.youtogether.IntegrationTestSupport;
+
+class UniqueNicknameStorageTest extends IntegrationTestSupport {
+
+	@Autowired
+	private UniqueNicknameStorage uniqueNicknameStorage;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@AfterEach
+	void clean() {
+		uniqueNicknameStorage.delete();
+	}
+
+	@Test
+	@DisplayName("예약한 닉네임은 사용 중인 닉네임으로 등록된다")
+	void reserve() {
+		// when
+		String nickname = uniqueNicknameStorage.reserve();
+
+		// then
+		assertThat(nickname).matches("[A-Za-z]+\\d{1,4}");
+		assertThat(uniqueNicknameStorage.exist(nickname)).isTrue();
+	}
+
+	@Test
+	@DisplayName("동시에 예약해도 같은 닉네임은 한 번만 예약된다")
+	void reserveConcurrently() throws Exception {
+		// given
+		int reserveCount = 200;
+		ExecutorService executorService = Executors.newFixedThreadPool(16);
+		List<Future<String>> futures = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < reserveCount; i++) {
+			futures.add(executorService.submit(() -> uniqueNicknameStorage.reserve()));
+		}
+		Set<String> nicknames = new HashSet<>();
+		for (Future<String> future : futures) {
+			nicknames.add(future.get());
+		}
+		executorService.shutdown();
+
+		// then
+		assertThat(nicknames).hasSize(reserveCount);
+	}
+
+	@Test
+	@DisplayName("등록되지 않은 닉네임은 대부분 Redis 조회 없이 사용 가능으로 응답한다")
+	void existFiltered() {
+		// given
+		for (int i = 0; i < 1000; i++) {
+			uniqueNicknameStorage.save("nickname" + i);
+		}
+		double filteredBefore = meterRegistry.counter("nickname.checks", "result", "filtered").count();
+		double redisBefore = meterRegistry.counter("nickname.checks", "result", "redis").count();
+
+		// when
+		int existCount = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (uniqueNicknameStorage.exist("absent" + i)) {
+				existCount++;
+			}
+		}
+
+		// then
+		double filtered = meterRegistry.counter("nickname.checks", "result", "filtered").count() - filteredBefore;
+		double redis = meterRegistry.counter("nickname.checks", "result", "redis").count() - redisBefore;
+
+		assertThat(existCount).isZero();
+		assertThat(filtered + redis).isEqualTo(1000);
+		assertThat(filtered).isGreaterThanOrEqualTo(970);
+		assertThat(uniqueNicknameStorage.exist("nickname0")).isTrue();
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 등록한 닉네임은 필터를 재구성하면 반영된다")
+	void rebuildFilter() {
+		// given
+		redisTemplate.opsForSet().add(USER_NICKNAME_SET, "nickname");
+
+		// when
+		uniqueNicknameStorage.rebuildFilter();
+
+		// then
+		assertThat(uniqueNicknameStorage.exist("nickname")).isTrue();
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 등록한 닉네임은 채널로 전달받아 재구성 전에도 반영된다")
+	void addFromChannel() throws Exception {
+		// given
+		redisTemplate.opsForSet().add(USER_NICKNAME_SET, "nickname");
+
+		// when
+		redisTemplate.convertAndSend(NICKNAME_ADDED_CHANNEL, "nickname");
+
+		// then
+		boolean exist = false;
+		for (int i = 0; i < 50 && !exist; i++) {
+			Thread.sleep(20);
+			exist = uniqueNicknameStorage.exist("nickname");
+		}
+		assertThat(exist).isTrue();
+	}
+
+	@Test
+	@DisplayName("변경한 닉네임은 필터에 등록된다")
+	void updateAddsToFilter() {
+		// given
+		uniqueNicknameStorage.save("oldNickname");
+
+		// when
+		uniqueNicknameStorage.update("oldNickname", "newNickname");
+
+		// then
+		assertThat(uniqueNicknameStorage.exist("newNickname")).isTrue();
+		assertThat(uniqueNicknameStorage.exist("oldNickname")).isFalse();
+	}
+
+}
@@ -0,0 +1,96 @@
+package site.youtogether.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.youtogether.exception.user.UserNoExistenceException;
+import site.youtogether.user.User;
+
+class UserContextTest {
+
+	private final UserStorage userStorage = mock(UserStorage.class);
+	private final UserContext userContext = new UserContext(userStorage, Optional.empty());
+
+	@AfterEach
+	void tearDown() {
+		userContext.close();
+	}
+
+	@Test
+	@DisplayName("컨텍스트 안에서는 같은 유저를 한 번만 조회한다")
+	void loadOnce() {
+		// given
+		given(userStorage.findById(1L))
+			.willReturn(Optional.of(createUser(1L, "황똥땡")));
+		userContext.open();
+
+		// when
+		User first = userContext.get(1L);
+		User second = userContext.get(1L);
+
+		// then
+		assertThat(second).isSameAs(first);
+		then(userStorage).should(times(1)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("컨텍스트 밖에서는 매번 조회한다")
+	void loadWithoutScope() {
+		// given
+		given(userStorage.findById(1L))
+			.willReturn(Optional.of(createUser(1L, "황똥땡")));
+
+		// when
+		userContext.get(1L);
+		userContext.get(1L);
+
+		// then
+		then(userStorage).should(times(2)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("저장한 유저는 컨텍스트에도 반영된다")
+	void saveWriteThrough() {
+		// given
+		given(userStorage.findById(1L))
+			.willReturn(Optional.of(createUser(1L, "황똥땡")));
+		userContext.open();
+		userContext.get(1L);
+
+		// when
+		User changedUser = createUser(1L, "연똥땡");
+		userContext.save(changedUser);
+
+		// then
+		assertThat(userContext.get(1L).getNickname()).isEqualTo("연똥땡");
+		then(userStorage).should().save(changedUser);
+		then(userStorage).should(times(1)).findById(1L);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 유저는 예외가 발생한다")
+	void userNoExistence() {
+		// given
+		given(userStorage.findById(1L))
+			.willReturn(Optional.empty());
+		userContext.open();
+
+		// when // then
+		assertThatThrownBy(() -> userContext.get(1L))
+			.isInstanceOf(UserNoExistenceException.class);
+	}
+
+	private User createUser(Long userId, String nickname) {
+		return User.builder()
+			.id(userId)
+			.nickname(nickname)
+			.build();
+	}
+
+}
@@ -0,0 +1,102 @@
+package site.youtogether.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import site.youtogether.config.property.UserProperties;
+import site.youtogether.config.property.UserProperties.NearCache;
+import site.youtogether.user.User;
+
+class UserNearCacheTest {
+
+	private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	private final UserNearCache userNearCache = new UserNearCache(redisTemplate,
+		new UserProperties(new NearCache(true, Duration.ofMinutes(1), 100)));
+
+	@Test
+	@DisplayName("한 번 읽은 유저는 다시 조회하지 않고, 매번 복사본을 반환한다")
+	void getCached() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// when
+		User first = userNearCache.get(1L, () -> load(loadCount, "황똥땡")).get();
+		first.changeNickname("연똥땡");
+		User second = userNearCache.get(1L, () -> load(loadCount, "황똥땡")).get();
+
+		// then
+		assertThat(loadCount).hasValue(1);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getNickname()).isEqualTo("황똥땡");
+	}
+
+	@Test
+	@DisplayName("무효화하면 다시 조회하고, 다른 서버에도 무효화를 알린다")
+	void invalidate() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+		userNearCache.get(1L, () -> load(loadCount, "황똥땡"));
+
+		// when
+		userNearCache.invalidate(1L);
+		User user = userNearCache.get(1L, () -> load(loadCount, "연똥땡")).get();
+
+		// then
+		assertThat(loadCount).hasValue(2);
+		assertThat(user.getNickname()).isEqualTo("연똥땡");
+		then(redisTemplate).should().convertAndSend(USER_INVALIDATION_CHANNEL, "1");
+	}
+
+	@Test
+	@DisplayName("다른 서버의 무효화 메시지를 받으면 다시 조회한다")
+	void invalidateByMessage() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+		userNearCache.get(1L, () -> load(loadCount, "황똥땡"));
+
+		// when
+		userNearCache.onMessage(new DefaultMessage(USER_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"1".getBytes(StandardCharsets.UTF_8)), null);
+		userNearCache.get(1L, () -> load(loadCount, "연똥땡"));
+
+		// then
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("조회하는 동안 무효화된 유저는 보관하지 않는다")
+	void invalidatedWhileLoading() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// when
+		userNearCache.get(1L, () -> {
+			userNearCache.invalidate(1L);
+			return load(loadCount, "황똥땡");
+		});
+		userNearCache.get(1L, () -> load(loadCount, "연똥땡"));
+
+		// then
+		assertThat(loadCount).hasValue(2);
+	}
+
+	private Optional<User> load(AtomicInteger loadCount, String nickname) {
+		loadCount.incrementAndGet();
+		return Optional.of(User.builder()
+			.id(1L)
+			.nickname(nickname)
+			.build());
+	}
+
+}
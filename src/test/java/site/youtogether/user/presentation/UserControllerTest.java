@@ -22,6 +22,7 @@ import site.youtogether.exception.user.HigherOrEqualRoleUserChangeException;
 import site.youtogether.exception.user.NotManageableUserException;
 import site.youtogether.exception.user.SelfRoleChangeException;
 import site.youtogether.exception.user.UserNicknameDuplicateException;
+import site.youtogether.jwt.VerifiedToken;
 import site.youtogether.room.Participant;
 import site.youtogether.user.Role;
 import site.youtogether.user.dto.NicknameDuplicationFlag;
@@ -41,8 +42,8 @@ class UserControllerTest extends RestDocsSupport {
 		// Setting new user nickname for request
 		String newNickname = "new nickname";
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userService.checkUserNicknameDuplication(any()))
 			.willReturn(new NicknameDuplicationFlag(true));
 
@@ -79,8 +80,8 @@ class UserControllerTest extends RestDocsSupport {
 		// Setting new user nickname for request
 		String newNickname = "new nickname";
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userService.checkUserNicknameDuplication(any()))
 			.willReturn(new NicknameDuplicationFlag(false));
 
@@ -122,8 +123,8 @@ class UserControllerTest extends RestDocsSupport {
 		// Setting up response data
 		Participant participant = new Participant(1L, newNickname, Role.GUEST);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserNickname(eq(participant.getUserId()), eq(newNickname)))
@@ -175,8 +176,8 @@ class UserControllerTest extends RestDocsSupport {
 		// Setting up response data
 		Participant participant = new Participant(1L, newNickname, Role.GUEST);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserNickname(eq(participant.getUserId()), eq(newNickname)))
@@ -225,8 +226,8 @@ class UserControllerTest extends RestDocsSupport {
 		// Setting up response data
 		Participant participant = new Participant(1L, newNickname, Role.GUEST);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserNickname(eq(participant.getUserId()), eq(newNickname)))
@@ -278,8 +279,8 @@ class UserControllerTest extends RestDocsSupport {
 		// Setting up response data
 		Participant participant = new Participant(form.getTargetUserId(), "hyun", form.getNewUserRole());
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserRole(eq(1L), any(UserRoleChangeForm.class)))
@@ -329,8 +330,8 @@ class UserControllerTest extends RestDocsSupport {
 		Role newUserRole = Role.VIEWER;
 		UserRoleChangeForm form = new UserRoleChangeForm(targetUserId, newUserRole);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserRole(eq(targetUserId), any(UserRoleChangeForm.class)))
@@ -380,8 +381,8 @@ class UserControllerTest extends RestDocsSupport {
 		Role newUserRole = Role.VIEWER;
 		UserRoleChangeForm form = new UserRoleChangeForm(targetUserId, newUserRole);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserRole(eq(1L), any(UserRoleChangeForm.class)))
@@ -431,8 +432,8 @@ class UserControllerTest extends RestDocsSupport {
 		Role newUserRole = Role.HOST;
 		UserRoleChangeForm form = new UserRoleChangeForm(targetUserId, newUserRole);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserRole(eq(1L), any(UserRoleChangeForm.class)))
@@ -483,8 +484,8 @@ class UserControllerTest extends RestDocsSupport {
 		Role newUserRole = Role.GUEST;
 		UserRoleChangeForm form = new UserRoleChangeForm(targetUserId, newUserRole);
 
-		given(jwtService.parse(eq(token)))
-			.willReturn(1L);
+		given(jwtService.parseSession(eq(token)))
+			.willReturn(new VerifiedToken(1L, Long.MAX_VALUE));
 		given(userStorage.existsById(eq(1L)))
 			.willReturn(true);
 		given(userService.changeUserRole(eq(1L), any(UserRoleChangeForm.class)))
@@ -116,7 +116,7 @@ class DataCleanerTest extends IntegrationTestSupport {
 			.activate(true)
 			.createdAt(LocalDateTime.of(2024, 5, 10, 12, 0))
 			.build();
-		room.enter(null);
+		room.updateParticipantCount(1);
 		roomStorage.save(room);
 
 		Playlist playlist = new Playlist(room.getCode());
@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import site.youtogether.IntegrationTestSupport;
 import site.youtogether.exception.playlist.InvalidVideoNumberException;
 import site.youtogether.message.ChatHistory;
@@ -25,15 +27,18 @@ import site.youtogether.playlist.Playlist;
 import site.youtogether.playlist.Video;
 import site.youtogether.playlist.application.PlaylistService;
 import site.youtogether.playlist.dto.PlaylistAddForm;
+import site.youtogether.playlist.dto.VideoOrder;
 import site.youtogether.playlist.infrastructure.PlayingVideoStorage;
 import site.youtogether.playlist.infrastructure.PlaylistStorage;
 import site.youtogether.room.Room;
+import site.youtogether.room.application.ParticipantCountSynchronizer;
 import site.youtogether.room.application.RoomService;
 import site.youtogether.room.infrastructure.RoomStorage;
 import site.youtogether.user.Role;
 import site.youtogether.user.User;
 import site.youtogether.user.application.UserService;
 import site.youtogether.user.dto.UserRoleChangeForm;
+import site.youtogether.user.infrastructure.UserContext;
 import site.youtogether.user.infrastructure.UserStorage;
 
 class ConcurrencyHandlingAspectTest extends IntegrationTestSupport {
@@ -62,15 +67,29 @@ class ConcurrencyHandlingAspectTest extends IntegrationTestSupport {
 	@Autowired
 	private MessageService messageService;
 
+	@Autowired
+	private ParticipantCountSynchronizer participantCountSynchronizer;
+
+	@Autowired
+	private UserContext userContext;
+
 	@Autowired
 	private RedisTemplate<String, ChatHistory> redisTemplate;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@AfterEach
 	void clean() {
 		roomStorage.deleteAll();
 		userStorage.deleteAll();
 		playlistStorage.deleteAll();
 		redisTemplate.delete(redisTemplate.keys(CHAT_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(PARTICIPANT_COUNT_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_MEMBER_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_PRIVILEGED_MEMBER_PREFIX + "*"));
+		redisTemplate.delete(redisTemplate.keys(ROOM_MEMBER_ORDER_PREFIX + "*"));
+		redisTemplate.delete(DIRTY_ROOM_SET);
 	}
 
 	@Test
@@ -94,6 +113,7 @@ class ConcurrencyHandlingAspectTest extends IntegrationTestSupport {
 			});
 		}
 		latch.await();
+		participantCountSynchronizer.sync();
 
 		Room savedRoom = roomStorage.findById("room code").get();
 		assertThat(savedRoom.getParticipantCount()).isEqualTo(100);
@@ -120,6 +140,7 @@ class ConcurrencyHandlingAspectTest extends IntegrationTestSupport {
 			});
 		}
 		latch.await();
+		participantCountSynchronizer.sync();
 
 		Room savedRoom = roomStorage.findById(room.getCode()).get();
 		assertThat(savedRoom.getParticipantCount()).isEqualTo(20);
@@ -249,6 +270,56 @@ class ConcurrencyHandlingAspectTest extends IntegrationTestSupport {
 		assertThat(exceptionCounter.get()).isEqualTo(threadCount - 1);
 	}
 
+	@Test
+	@DisplayName("락을 얻기 전에 읽은 유저가 아니라 락을 얻은 뒤의 유저로 플레이리스트를 변경한다")
+	void reloadUserInPlaylistLock() {
+		// given
+		Room room = createRoom(10, 0);
+		User user = createAndEnterUser(1L, Role.GUEST, room.getCode());
+		userContext.open();
+		userContext.get(user.getId());                  // 락 밖에서 GUEST 로 읽어둔 상태
+
+		user.getHistory().put(room.getCode(), Role.EDITOR);
+		userStorage.save(user);
+
+		// when
+		try {
+			playlistService.addVideo(user.getId(), new PlaylistAddForm("videoId", "title", "channel", "thumbnail",
+				Duration.ofMinutes(10).toString()));
+		} finally {
+			userContext.close();
+		}
+
+		// then
+		assertThat(playlistStorage.findById(room.getCode()).get().getVideos()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("플레이리스트 순서 변경은 락을 한 번만 얻는다")
+	void reorderLocksOnce() {
+		// given
+		Room room = createRoom(10, 3);
+		User host = createAndEnterUser(1L, Role.HOST, room.getCode());
+		double before = playlistLockCount();
+
+		// when
+		playlistService.reorderVideo(host.getId(), new VideoOrder(0, 2));
+
+		// then
+		assertThat(playlistLockCount() - before).isEqualTo(1);
+		assertThat(playlistStorage.findById(room.getCode()).get().getVideos())
+			.extracting(Video::getVideoNumber)
+			.containsExactly(1L, 2L, 0L);
+	}
+
+	private double playlistLockCount() {
+		return meterRegistry.find("lock.wait")
+			.tag("operation", PlaylistSynchronize.class.getSimpleName())
+			.timers().stream()
+			.mapToDouble(Timer::count)
+			.sum();
+	}
+
 	private Room createRoom(int capacity) {
 		Room room = Room.builder()
 			.code("room code")
@@ -314,14 +385,14 @@ class ConcurrencyHandlingAspectTest extends IntegrationTestSupport {
 			User user = User.builder()
 				.id(i)
 				.nickname("nickname" + i)
+				.currentRoomCode(roomCode)
 				.build();
 
-			user.enterRoom(roomCode);
 			user.createRoom(roomCode);        // user 를 호스트로 설정
-			room.enter(null);
 
 			userStorage.save(user);
 		}
+		room.updateParticipantCount(room.getParticipantCount() + count);
 		roomStorage.save(room);
 	}
 
@@ -335,7 +406,7 @@ class ConcurrencyHandlingAspectTest extends IntegrationTestSupport {
 		userStorage.save(user);
 
 		Room room = roomStorage.findById(roomCode).get();
-		room.enter(null);
+		room.updateParticipantCount(room.getParticipantCount() + 1);
 		roomStorage.save(room);
 
 		return user;
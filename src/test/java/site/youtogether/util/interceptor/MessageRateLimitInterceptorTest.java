@@ -0,0 +1,71 @@
+package site.youtogether.util.interceptor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static site.youtogether.util.AppConstants.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.youtogether.config.property.RateLimitProperties;
+import site.youtogether.config.property.RateLimitProperties.Limit;
+import site.youtogether.message.MessageType;
+import site.youtogether.message.application.MessageService;
+import site.youtogether.util.ratelimit.RateLimiter;
+
+class MessageRateLimitInterceptorTest {
+
+	private static final String VIDEO_DESTINATION = "/pub/messages/video";
+
+	private final MessageService messageService = mock(MessageService.class);
+	private final MessageRateLimitInterceptor messageRateLimitInterceptor = createInterceptor();
+
+	@Test
+	@DisplayName("방 한도로 버려진 영상 조작은 유저 한도에서 빠지지 않고, 보낸 세션에 버려졌다고 알린다")
+	void rejectedByRoom() {
+		// given
+		messageRateLimitInterceptor.preSend(createVideoMessage("session1", 1L, "room1"), null);
+
+		// when
+		Message<?> rejected = messageRateLimitInterceptor.preSend(createVideoMessage("session2", 2L, "room1"), null);
+
+		// then
+		assertThat(rejected).isNull();
+		verify(messageService).sendThrottled("session2", MessageType.VIDEO_SYNC_INFO);
+		assertThat(messageRateLimitInterceptor.preSend(createVideoMessage("session2", 2L, "room2"), null)).isNotNull();
+	}
+
+	@SuppressWarnings("unchecked")
+	private MessageRateLimitInterceptor createInterceptor() {
+		ObjectProvider<MessageService> messageServiceProvider = mock(ObjectProvider.class);
+		given(messageServiceProvider.getObject()).willReturn(messageService);
+
+		RateLimitProperties rateLimitProperties = new RateLimitProperties(true,
+			Map.of(MessageType.VIDEO_SYNC_INFO, new Limit(1, 0.001)),
+			Map.of(MessageType.VIDEO_SYNC_INFO, new Limit(1, 0.001)));
+		return new MessageRateLimitInterceptor(rateLimitProperties, new RateLimiter(), new SimpleMeterRegistry(), messageServiceProvider);
+	}
+
+	private Message<byte[]> createVideoMessage(String sessionId, Long userId, String roomCode) {
+		StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(StompCommand.SEND);
+		headerAccessor.setDestination(VIDEO_DESTINATION);
+		headerAccessor.setSessionId(sessionId);
+		Map<String, Object> sessionAttributes = new HashMap<>();
+		sessionAttributes.put(USER_ID, userId);
+		sessionAttributes.put(ROOM_CODE, roomCode);
+		headerAccessor.setSessionAttributes(sessionAttributes);
+		headerAccessor.setLeaveMutable(true);
+
+		return MessageBuilder.createMessage(new byte[0], headerAccessor.getMessageHeaders());
+	}
+
+}
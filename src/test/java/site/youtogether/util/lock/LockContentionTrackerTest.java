@@ -0,0 +1,77 @@
+package site.youtogether.util.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LockContentionTrackerTest {
+
+	private final LockContentionTracker lockContentionTracker = new LockContentionTracker();
+
+	@Test
+	@DisplayName("대기 시간이 긴 방부터 반환한다")
+	void findTopContended() {
+		// given
+		lockContentionTracker.record("room1", TimeUnit.MILLISECONDS.toNanos(10), false);
+		lockContentionTracker.record("room2", TimeUnit.MILLISECONDS.toNanos(30), false);
+		lockContentionTracker.record("room2", TimeUnit.MILLISECONDS.toNanos(50), true);
+		lockContentionTracker.record("room3", TimeUnit.MILLISECONDS.toNanos(20), false);
+
+		// when
+		List<RoomContention> result = lockContentionTracker.findTopContended(2);
+
+		// then
+		assertThat(result)
+			.extracting(RoomContention::getRoomCode, RoomContention::getContendedCount, RoomContention::getFailureCount,
+				RoomContention::getTotalWaitMillis, RoomContention::getMaxWaitMillis)
+			.containsExactly(
+				tuple("room2", 2L, 1L, 80L, 50L),
+				tuple("room3", 1L, 0L, 20L, 20L)
+			);
+	}
+
+	@Test
+	@DisplayName("기다리지 않고 얻은 락은 기록하지 않는다")
+	void ignoreUncontended() {
+		// when
+		lockContentionTracker.record("room1", TimeUnit.MICROSECONDS.toNanos(10), false);
+
+		// then
+		assertThat(lockContentionTracker.findTopContended(10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이전 구간과 현재 구간을 합쳐서 반환한다")
+	void mergeWindows() {
+		// given
+		lockContentionTracker.record("room1", TimeUnit.MILLISECONDS.toNanos(10), false);
+
+		// when
+		lockContentionTracker.rotate();
+		lockContentionTracker.record("room1", TimeUnit.MILLISECONDS.toNanos(20), false);
+
+		// then
+		assertThat(lockContentionTracker.findTopContended(10))
+			.extracting(RoomContention::getContendedCount, RoomContention::getTotalWaitMillis)
+			.containsExactly(tuple(2L, 30L));
+	}
+
+	@Test
+	@DisplayName("이전 구간보다 오래된 기록은 사라진다")
+	void expireOldWindows() {
+		// given
+		lockContentionTracker.record("room1", TimeUnit.MILLISECONDS.toNanos(10), false);
+
+		// when
+		lockContentionTracker.rotate();
+		lockContentionTracker.rotate();
+
+		// then
+		assertThat(lockContentionTracker.findTopContended(10)).isEmpty();
+	}
+
+}
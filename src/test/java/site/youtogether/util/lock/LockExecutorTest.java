@@ -0,0 +1,116 @@
+package site.youtogether.util.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.youtogether.config.property.LockProperties;
+import site.youtogether.config.property.LockProperties.Mailbox;
+import site.youtogether.config.property.LockProperties.Provider;
+import site.youtogether.exception.playlist.PlaylistLockAcquisitionFailureException;
+
+class LockExecutorTest {
+
+	private final LockProperties lockProperties = new LockProperties(Provider.LOCAL, 16, new Mailbox(false, 4, Duration.ofSeconds(10)));
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final LockContentionTracker lockContentionTracker = new LockContentionTracker();
+	private final LockExecutor lockExecutor = new LockExecutor(new StripedLockProvider(16), Optional.empty(), lockContentionTracker,
+		meterRegistry, lockProperties);
+	private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("락 대기 시간과 보유 시간이 작업 종류와 락 종류별로 기록된다")
+	void recordWaitAndHold() {
+		// when
+		String result = lockExecutor.execute("UserSynchronize", LockKey.USER, "1", () -> "done");
+
+		// then
+		assertThat(result).isEqualTo("done");
+		assertThat(meterRegistry.get("lock.wait")
+			.tags("operation", "UserSynchronize", "key", "user", "mode", "local", "result", "acquired")
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("lock.hold")
+			.tags("operation", "UserSynchronize", "key", "user", "mode", "local")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("락을 얻지 못하면 실패로 기록되고, 방별 경합에도 기록된다")
+	void recordFailure() throws Exception {
+		// given
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executorService.submit(() -> lockExecutor.execute("PlaylistSynchronize", LockKey.PLAYLIST, "room code", () -> {
+			locked.countDown();
+			release.await();
+			return null;
+		}));
+		locked.await();
+
+		// when
+		assertThatThrownBy(() -> lockExecutor.tryExecuteInRoom("PlaylistSynchronize", LockKey.PLAYLIST, "room code", () -> null,
+			PlaylistLockAcquisitionFailureException::new))
+			.isInstanceOf(PlaylistLockAcquisitionFailureException.class);
+		release.countDown();
+
+		// then
+		assertThat(meterRegistry.get("lock.wait")
+			.tags("operation", "PlaylistSynchronize", "key", "playlist", "result", "failed")
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(lockContentionTracker.findTopContended(10))
+			.extracting(RoomContention::getRoomCode, RoomContention::getFailureCount)
+			.containsExactly(tuple("room code", 1L));
+	}
+
+	@Test
+	@DisplayName("임대 시간보다 오래 실행되어 락이 먼저 풀리면 임대 만료로 기록된다")
+	void recordLeaseExpired() {
+		// when
+		lockExecutor.execute("VideoSynchronize", LockKey.VIDEO, "room code", () -> {
+			Thread.sleep(1100);
+			return null;
+		});
+
+		// then
+		assertThat(meterRegistry.get("lock.lease.expired")
+			.tags("operation", "VideoSynchronize", "key", "video")
+			.counter()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("메일박스를 사용하면 큐에서 기다린 시간과 실행 시간이 기록된다")
+	void recordMailbox() {
+		// given
+		RoomMailbox roomMailbox = new RoomMailbox(lockProperties);
+		LockExecutor mailboxExecutor = new LockExecutor(new StripedLockProvider(16), Optional.of(roomMailbox), lockContentionTracker,
+			meterRegistry, lockProperties);
+
+		// when
+		mailboxExecutor.executeInRoom("PlaylistSynchronize", LockKey.PLAYLIST, "room code", () -> null);
+		roomMailbox.shutdown();
+
+		// then
+		assertThat(meterRegistry.get("lock.wait").tags("mode", "mailbox", "result", "acquired").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("lock.hold").tags("mode", "mailbox").timer().count()).isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,158 @@
+package site.youtogether.util.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import site.youtogether.config.property.LockProperties;
+import site.youtogether.config.property.LockProperties.Mailbox;
+import site.youtogether.config.property.LockProperties.Provider;
+
+class RoomMailboxTest {
+
+	private final RoomMailbox roomMailbox = new RoomMailbox(
+		new LockProperties(Provider.LOCAL, 16, new Mailbox(true, 4, Duration.ofMillis(500))));
+	private final ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+	@AfterEach
+	void tearDown() {
+		roomMailbox.shutdown();
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 방의 작업은 동시에 실행되지 않는다")
+	void serialPerRoom() throws Exception {
+		// given
+		int taskCount = 200;
+		AtomicInteger running = new AtomicInteger();
+		AtomicBoolean overlapped = new AtomicBoolean();
+		int[] counter = {0};
+		CountDownLatch latch = new CountDownLatch(taskCount);
+
+		// when
+		for (int i = 0; i < taskCount; i++) {
+			executorService.submit(() -> {
+				try {
+					roomMailbox.call("room code", () -> {
+						if (running.incrementAndGet() > 1) {
+							overlapped.set(true);
+						}
+						counter[0]++;
+						running.decrementAndGet();
+						return null;
+					});
+				} catch (Throwable ignored) {
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+
+		// then
+		assertThat(overlapped).isFalse();
+		assertThat(counter[0]).isEqualTo(taskCount);
+	}
+
+	@Test
+	@DisplayName("한 스레드가 넣은 작업은 넣은 순서대로 실행된다")
+	void ordered() throws Throwable {
+		// given
+		List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+		// when
+		for (int i = 0; i < 50; i++) {
+			int order = i;
+			roomMailbox.call("room code", () -> executed.add(order));
+		}
+
+		// then
+		assertThat(executed).isSorted().hasSize(50);
+	}
+
+	@Test
+	@DisplayName("다른 방의 작업은 기다리지 않고 실행된다")
+	void parallelAcrossRooms() throws Throwable {
+		// given
+		CountDownLatch blocking = new CountDownLatch(1);
+		Future<Object> blocked = submitBlocking(blocking);
+
+		// when
+		String result = roomMailbox.call("other room code", () -> "done");
+
+		// then
+		assertThat(result).isEqualTo("done");
+		blocking.countDown();
+		blocked.get();
+	}
+
+	@Test
+	@DisplayName("방의 작업 안에서 같은 방의 작업을 요청하면 바로 실행된다")
+	void reentrant() throws Throwable {
+		// when
+		String result = roomMailbox.call("room code", () -> roomMailbox.call("room code", () -> "inner"));
+
+		// then
+		assertThat(result).isEqualTo("inner");
+	}
+
+	@Test
+	@DisplayName("작업에서 발생한 예외는 호출한 쪽으로 전달된다")
+	void propagateException() {
+		// expect
+		assertThatThrownBy(() -> roomMailbox.call("room code", () -> {
+			throw new IllegalStateException("failure");
+		}))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("failure");
+	}
+
+	@Test
+	@DisplayName("대기 시간 안에 실행되지 못한 작업은 실행되지 않고 실패한다")
+	void dropAfterWaitTime() throws Throwable {
+		// given
+		CountDownLatch blocking = new CountDownLatch(1);
+		AtomicBoolean executed = new AtomicBoolean();
+		submitBlocking(blocking);
+		Thread.sleep(50);
+
+		// when
+		assertThatThrownBy(() -> roomMailbox.call("room code", () -> executed.getAndSet(true)))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("Lock 획득 실패");
+		blocking.countDown();
+		roomMailbox.call("room code", () -> null);
+
+		// then
+		assertThat(executed).isFalse();
+	}
+
+	// blocking 이 풀릴 때까지 방의 메일박스를 점유하는 작업
+	private Future<Object> submitBlocking(CountDownLatch blocking) {
+		return executorService.submit(() -> {
+			try {
+				return roomMailbox.call("room code", () -> {
+					blocking.await();
+					return null;
+				});
+			} catch (Throwable t) {
+				throw new IllegalStateException(t);
+			}
+		});
+	}
+
+}
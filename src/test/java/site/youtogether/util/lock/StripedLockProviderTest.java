@@ -0,0 +1,156 @@
+package site.youtogether.util.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedLockProviderTest {
+
+	private final StripedLockProvider lockProvider = new StripedLockProvider(16);
+	private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("락을 가진 스레드가 있으면 다른 스레드는 대기 시간 안에 락을 얻지 못한다")
+	void mutualExclusion() throws Exception {
+		// given
+		ResourceLock lock = lockProvider.getLock("room code");
+		lock.tryLock(1, 10, TimeUnit.SECONDS);
+
+		// when
+		Future<Boolean> other = executorService.submit(() -> lockProvider.getLock("room code").tryLock(100, 1000, TimeUnit.MILLISECONDS));
+
+		// then
+		assertThat(other.get()).isFalse();
+		assertThat(lock.unlock()).isTrue();
+	}
+
+	@Test
+	@DisplayName("락이 풀리면 대기 중인 스레드가 락을 얻는다")
+	void waitForRelease() throws Exception {
+		// given
+		ResourceLock lock = lockProvider.getLock("room code");
+		lock.tryLock(1, 10, TimeUnit.SECONDS);
+
+		// when
+		Future<Boolean> other = executorService.submit(() -> lockProvider.getLock("room code").tryLock(5, 1, TimeUnit.SECONDS));
+		Thread.sleep(100);
+		lock.unlock();
+
+		// then
+		assertThat(other.get()).isTrue();
+	}
+
+	@Test
+	@DisplayName("임대 시간이 지나면 락이 풀리고, 이전 보유자의 unlock 은 false 를 반환한다")
+	void leaseExpires() throws Exception {
+		// given
+		ResourceLock lock = lockProvider.getLock("room code");
+		lock.tryLock(1, 100, TimeUnit.MILLISECONDS);
+
+		// when
+		Future<Boolean> other = executorService.submit(() -> lockProvider.getLock("room code").tryLock(5, 1, TimeUnit.SECONDS));
+
+		// then
+		assertThat(other.get()).isTrue();
+		assertThat(lock.unlock()).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 스레드는 락을 다시 얻을 수 있고, 얻은 횟수만큼 풀어야 다른 스레드가 얻는다")
+	void reentrant() throws Exception {
+		// given
+		ResourceLock lock = lockProvider.getLock("room code");
+		lock.tryLock(1, 10, TimeUnit.SECONDS);
+
+		// when
+		boolean reentered = lock.tryLock();
+		lock.unlock();
+		Future<Boolean> beforeRelease = executorService.submit(() -> lockProvider.getLock("room code").tryLock());
+		boolean lockedBeforeRelease = beforeRelease.get();
+		lock.unlock();
+		Future<Boolean> afterRelease = executorService.submit(() -> lockProvider.getLock("room code").tryLock());
+
+		// then
+		assertThat(reentered).isTrue();
+		assertThat(lockedBeforeRelease).isFalse();
+		assertThat(afterRelease.get()).isTrue();
+	}
+
+	@Test
+	@DisplayName("재진입한 획득은 바깥 획득의 임대 시간을 바꾸지 않는다")
+	void reentrantKeepsOuterLease() throws Exception {
+		// given
+		ResourceLock lock = lockProvider.getLock("room code");
+		lock.tryLock(1, 10, TimeUnit.SECONDS);
+
+		// when
+		lock.tryLock(1, 50, TimeUnit.MILLISECONDS);
+		lock.unlock();
+		Thread.sleep(100);
+		Future<Boolean> other = executorService.submit(() -> lockProvider.getLock("room code").tryLock());
+
+		// then
+		assertThat(other.get()).isFalse();
+		assertThat(lock.unlock()).isTrue();
+	}
+
+	@Test
+	@DisplayName("임대 없이 재진입해도 바깥 획득의 임대가 지나면 락이 풀린다")
+	void reentrantWithoutLeaseKeepsOuterLease() throws Exception {
+		// given
+		ResourceLock lock = lockProvider.getLock("room code");
+		lock.tryLock(1, 100, TimeUnit.MILLISECONDS);
+
+		// when
+		lock.tryLock();
+		Future<Boolean> other = executorService.submit(() -> lockProvider.getLock("room code").tryLock(5, 1, TimeUnit.SECONDS));
+
+		// then
+		assertThat(other.get()).isTrue();
+		assertThat(lock.unlock()).isFalse();
+	}
+
+	@Test
+	@DisplayName("동시에 증가시켜도 락 안에서는 한 스레드씩 실행된다")
+	void serializeIncrements() throws Exception {
+		// given
+		int threadCount = 100;
+		int[] counter = {0};
+		CountDownLatch latch = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executorService.submit(() -> {
+				ResourceLock lock = lockProvider.getLock("room code");
+				try {
+					if (lock.tryLock(10, 1, TimeUnit.SECONDS)) {
+						counter[0]++;
+						lock.unlock();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+
+		// then
+		assertThat(counter[0]).isEqualTo(threadCount);
+	}
+
+}
@@ -0,0 +1,87 @@
+package site.youtogether.util.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	@DisplayName("버킷 용량만큼은 연속으로 요청할 수 있고 그 이후 요청은 거절된다")
+	void tryAcquireUpToCapacity() {
+		// given
+		long now = 100 * SECOND;
+		TokenBucket bucket = new TokenBucket(3, 1, now);
+
+		// when // then
+		assertThat(bucket.tryAcquire(now)).isTrue();
+		assertThat(bucket.tryAcquire(now)).isTrue();
+		assertThat(bucket.tryAcquire(now)).isTrue();
+		assertThat(bucket.tryAcquire(now)).isFalse();
+	}
+
+	@Test
+	@DisplayName("시간이 지나면 초당 충전량만큼 다시 요청할 수 있다")
+	void tryAcquireAfterRefill() {
+		// given
+		long now = 100 * SECOND;
+		TokenBucket bucket = new TokenBucket(2, 2, now);
+		bucket.tryAcquire(now);
+		bucket.tryAcquire(now);
+
+		// when // then
+		assertThat(bucket.tryAcquire(now)).isFalse();
+		assertThat(bucket.tryAcquire(now + SECOND / 2)).isTrue();
+		assertThat(bucket.tryAcquire(now + SECOND / 2)).isFalse();
+	}
+
+	@Test
+	@DisplayName("거절된 요청은 토큰을 소모하지 않는다")
+	void rejectedRequestDoesNotConsumeToken() {
+		// given
+		long now = 100 * SECOND;
+		TokenBucket bucket = new TokenBucket(1, 1, now);
+		bucket.tryAcquire(now);
+
+		// when
+		for (int i = 0; i < 10; i++) {
+			bucket.tryAcquire(now);
+		}
+
+		// then
+		assertThat(bucket.tryAcquire(now + SECOND)).isTrue();
+	}
+
+	@Test
+	@DisplayName("돌려받은 토큰은 다시 사용할 수 있다")
+	void refund() {
+		// given
+		long now = 100 * SECOND;
+		TokenBucket bucket = new TokenBucket(1, 1, now);
+		bucket.tryAcquire(now);
+
+		// when
+		bucket.refund();
+
+		// then
+		assertThat(bucket.tryAcquire(now)).isTrue();
+		assertThat(bucket.tryAcquire(now)).isFalse();
+	}
+
+	@Test
+	@DisplayName("충분히 쉬고 나면 버킷이 가득 찬 상태가 된다")
+	void isFullAfterIdle() {
+		// given
+		long now = 100 * SECOND;
+		TokenBucket bucket = new TokenBucket(5, 5, now);
+		bucket.tryAcquire(now);
+
+		// when // then
+		assertThat(bucket.isFull(now)).isFalse();
+		assertThat(bucket.isFull(now + SECOND)).isTrue();
+	}
+
+}